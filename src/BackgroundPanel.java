@@ -1,12 +1,35 @@
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * BackgroundPanel is a custom JPanel that displays an image as the background.
  * It allows setting and updating the background image using a specified image path.
+ *
+ * <p>Each background is decoded and scaled to the panel's size once, into an opaque image in the
+ * screen's format, and kept for the rest of the game. Repainting the panel is then a plain copy,
+ * which matters because the scene is repainted underneath every foraging animation.</p>
  */
 public class BackgroundPanel extends JPanel {
-    private Image backgroundImage;
+    // There are only a handful of scenes, so every scaled background is kept
+    private static final Map<String, BufferedImage> SCALED_BACKGROUNDS = new ConcurrentHashMap<>();
+    // One thread scales prefetched backgrounds in turn, however quickly the player moves between scenes
+    private static final ExecutorService PREFETCHER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-prefetcher");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private String imagePath;
+    private BufferedImage backgroundImage;
 
     /**
      * Constructs a BackgroundPanel with the specified image path.
@@ -20,16 +43,37 @@ public class BackgroundPanel extends JPanel {
 
     /**
      * Sets the background image from the specified image path.
-     * The image is loaded from the classpath using the provided path.
+     * The image is scaled to the panel the next time it is painted, unless it has been already.
      * The method updates the current background image and repaints the panel to display the new image.
      *
      * @param imagePath the relative path to the background image file within the classpath
      */
     public void setBackgroundImage(String imagePath) {
-        backgroundImage = new ImageIcon(getClass().getResource(imagePath)).getImage();
+        this.imagePath = imagePath;
+        backgroundImage = null;
         repaint();
     }
 
+    /**
+     * Scales the specified backgrounds to the panel's size on a background thread,
+     * so showing one of them later does not have to wait for it to be decoded.
+     *
+     * @param imagePaths the paths of the background images
+     */
+    public void prefetch(Collection<String> imagePaths) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        List<String> pathList = new ArrayList<>(imagePaths);
+        PREFETCHER.execute(() -> {
+            for (String path : pathList) {
+                getScaledBackground(path, width, height);
+            }
+        });
+    }
+
     /**
      * Overrides the paintComponent method to draw the background image.
      * The background image is drawn to fill the entire panel area.
@@ -39,9 +83,50 @@ public class BackgroundPanel extends JPanel {
      */
     @Override
     protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
+        int width = getWidth();
+        int height = getHeight();
+        if (backgroundImage == null || backgroundImage.getWidth() != width || backgroundImage.getHeight() != height) {
+            backgroundImage = imagePath != null ? getScaledBackground(imagePath, width, height) : null;
+        }
         if (backgroundImage != null) {
-            g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+            g.drawImage(backgroundImage, 0, 0, null); // The image is opaque and covers the panel, so there is nothing to clear
+        } else {
+            super.paintComponent(g);
         }
     }
-}
\ No newline at end of file
+
+    private static BufferedImage getScaledBackground(String imagePath, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        // computeIfAbsent makes a repaint wait for a prefetch of the same background instead of scaling it twice
+        return SCALED_BACKGROUNDS.computeIfAbsent(imagePath + "@" + width + "x" + height,
+                key -> createScaledBackground(imagePath, width, height));
+    }
+
+    private static BufferedImage createScaledBackground(String imagePath, int width, int height) {
+        BufferedImage source = IconCache.loadImage(imagePath);
+        if (source == null) {
+            return null;
+        }
+        long startTime = System.nanoTime();
+        // Some backgrounds are shrunk to less than half their width, so shrink by at most half
+        // a step at a time to keep bilinear filtering from skipping pixels
+        BufferedImage image = source;
+        do {
+            image = drawScaled(image, Math.max(width, image.getWidth() / 2), Math.max(height, image.getHeight() / 2));
+        } while (image.getWidth() != width || image.getHeight() != height);
+        System.out.println("Background " + imagePath + " scaled in " + (System.nanoTime() - startTime) / 1_000_000 + " ms.");
+        return image;
+    }
+
+    private static BufferedImage drawScaled(BufferedImage source, int width, int height) {
+        BufferedImage image = IconCache.createCompatibleImage(width, height, Transparency.OPAQUE);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return image;
+    }
+}
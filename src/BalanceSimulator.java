@@ -0,0 +1,222 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * BalanceSimulator runs a Monte Carlo simulation of foraging for every scene and foraging level,
+ * using the same loot tables, foraging times and experience table as the game.
+ * It reports the expected experience per hour, the time needed to reach each level and the
+ * item drop distribution, and spreads the work across all cores with a fork/join pool.
+ *
+ * <p>Usage: {@code java BalanceSimulator [hoursPerLevel] [maxLevel]}</p>
+ */
+public class BalanceSimulator {
+
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+    private static final long ROLLS_PER_TASK = 200_000L;
+
+    private final double hoursPerLevel;
+    private final int maxLevel;
+
+    /**
+     * Constructs a BalanceSimulator.
+     *
+     * @param hoursPerLevel the number of player-hours to simulate for every scene and level
+     * @param maxLevel      the highest foraging level to simulate
+     */
+    public BalanceSimulator(double hoursPerLevel, int maxLevel) {
+        this.hoursPerLevel = hoursPerLevel;
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * Simulates every level of the specified scene.
+     *
+     * @param scene the scene to simulate
+     * @param seed  the seed for the random number generators
+     * @return the results, one per level, in level order
+     */
+    public List<LevelResult> simulate(Scene scene, long seed) {
+        List<RollTask> tasks = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int level = 1; level <= maxLevel; level++) {
+            LootSampler lootSampler = LootSampler.build(scene.getLootTable(), level);
+            int forageTime = ForagingEngine.getForagingTime(scene, level) + ForagingEngine.ANIMATION_TIME;
+            long rolls = (long) (hoursPerLevel * MILLIS_PER_HOUR / forageTime);
+            tasks.add(new RollTask(lootSampler, rolls, random.split()));
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        for (RollTask task : tasks) {
+            pool.execute(task);
+        }
+
+        List<LevelResult> results = new ArrayList<>();
+        for (int level = 1; level <= maxLevel; level++) {
+            RollTask task = tasks.get(level - 1);
+            int forageTime = ForagingEngine.getForagingTime(scene, level) + ForagingEngine.ANIMATION_TIME;
+            results.add(new LevelResult(level, forageTime, task.lootSampler, task.join(), task.rolls));
+        }
+        return results;
+    }
+
+    /**
+     * Rolls loot a fixed number of times, splitting itself in half until the work is small enough.
+     * Each half gets its own {@link SplittableRandom} so no generator is shared between threads.
+     */
+    private static class RollTask extends RecursiveTask<long[]> {
+        private final LootSampler lootSampler;
+        private final long rolls;
+        private final SplittableRandom random;
+
+        RollTask(LootSampler lootSampler, long rolls, SplittableRandom random) {
+            this.lootSampler = lootSampler;
+            this.rolls = rolls;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (rolls > ROLLS_PER_TASK) {
+                RollTask left = new RollTask(lootSampler, rolls / 2, random.split());
+                RollTask right = new RollTask(lootSampler, rolls - rolls / 2, random.split());
+                left.fork();
+                long[] drops = right.compute();
+                long[] leftDrops = left.join();
+                for (int i = 0; i < drops.length; i++) {
+                    drops[i] += leftDrops[i];
+                }
+                return drops;
+            }
+
+            int size = lootSampler.size();
+            long[] drops = new long[size];
+            if (size == 0) {
+                return drops;
+            }
+            for (long i = 0; i < rolls; i++) {
+                drops[lootSampler.sampleIndex(random.nextInt(size), random.nextDouble())]++;
+            }
+            return drops;
+        }
+    }
+
+    /**
+     * The simulated outcome of foraging one scene at one level.
+     */
+    public static class LevelResult {
+        private final int level;
+        private final int forageTime;
+        private final LootSampler lootSampler;
+        private final long[] drops;
+        private final long rolls;
+        private final long totalExperience;
+
+        LevelResult(int level, int forageTime, LootSampler lootSampler, long[] drops, long rolls) {
+            this.level = level;
+            this.forageTime = forageTime;
+            this.lootSampler = lootSampler;
+            this.drops = drops;
+            this.rolls = rolls;
+            long experience = 0;
+            for (int i = 0; i < drops.length; i++) {
+                experience += drops[i] * lootSampler.getItem(i).getExperience();
+            }
+            this.totalExperience = experience;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public int getForageTime() {
+            return forageTime;
+        }
+
+        public double getExperiencePerHour() {
+            if (rolls == 0) {
+                return 0;
+            }
+            return (double) totalExperience / rolls * (MILLIS_PER_HOUR / (double) forageTime);
+        }
+
+        /**
+         * Returns the expected number of hours to go from this level to the next one.
+         *
+         * @return the hours to level up, or infinity if nothing can be foraged at this level
+         */
+        public double getHoursToNextLevel() {
+            double experiencePerHour = getExperiencePerHour();
+            if (experiencePerHour == 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return ExperienceCalculator.getExperienceForLevel(level + 1) / experiencePerHour;
+        }
+
+        /**
+         * Returns the share of drops per item, sorted by item name.
+         *
+         * @return a map from item name to drop rate between 0 and 1
+         */
+        public Map<String, Double> getDropDistribution() {
+            Map<String, Double> distribution = new TreeMap<>();
+            for (int i = 0; i < drops.length; i++) {
+                distribution.merge(lootSampler.getItem(i).getName(), (double) drops[i] / rolls, Double::sum);
+            }
+            return distribution;
+        }
+
+        int getItemCount() {
+            return lootSampler.size();
+        }
+    }
+
+    public static void main(String[] args) {
+        double hoursPerLevel = args.length > 0 ? Double.parseDouble(args[0]) : 100;
+        int maxLevel = args.length > 1 ? Integer.parseInt(args[1]) : 98;
+        maxLevel = Math.max(1, Math.min(maxLevel, ExperienceCalculator.getMaxLevel() - 1));
+
+        BalanceSimulator simulator = new BalanceSimulator(hoursPerLevel, maxLevel);
+        long startTime = System.nanoTime();
+
+        for (Scene scene : new TreeMap<>(Main.loadScenes(ItemRegistry.load("/items.csv", "/loot-tables.csv"))).values()) {
+            if (scene.getLootTable().isEmpty()) {
+                continue;
+            }
+            List<LevelResult> results = simulator.simulate(scene, scene.getName().hashCode());
+
+            System.out.println();
+            System.out.println("=== " + scene.getName() + " (difficulty " + scene.getDifficulty() + ") ===");
+            System.out.println(String.format(Locale.ROOT, "%5s %10s %12s %14s %14s", "Level", "Forage ms", "XP/hour", "Hours to next", "Total hours"));
+            double totalHours = 0;
+            int previousItemCount = -1;
+            List<LevelResult> unlockLevels = new ArrayList<>();
+            for (LevelResult result : results) {
+                double hoursToNext = result.getHoursToNextLevel();
+                System.out.println(String.format(Locale.ROOT, "%5d %10d %12.1f %14.2f %14.2f", result.getLevel(), result.getForageTime(),
+                        result.getExperiencePerHour(), hoursToNext, totalHours));
+                totalHours += hoursToNext;
+                if (result.getItemCount() != previousItemCount) {
+                    unlockLevels.add(result);
+                    previousItemCount = result.getItemCount();
+                }
+            }
+
+            // The drop table only changes when new items unlock, so only print it at those levels
+            for (LevelResult result : unlockLevels) {
+                System.out.println("-- Drop distribution at level " + result.getLevel() + " --");
+                for (Map.Entry<String, Double> entry : result.getDropDistribution().entrySet()) {
+                    System.out.println(String.format(Locale.ROOT, "   %-26s %7.3f%%", entry.getKey(), entry.getValue() * 100));
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println("Simulated " + hoursPerLevel + " player-hours per scene and level in " + (System.nanoTime() - startTime) / 1_000_000 + " ms.");
+    }
+}
@@ -1,27 +1,90 @@
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.beans.PropertyVetoException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * BankWindow manages the banking system where players can deposit and withdraw items.
+ * The bank is shown in a list that only renders the visible cells, and the items are kept
+ * sorted by name so the search box can filter by prefix with a binary search.
  */
-public class BankWindow extends JInternalFrame {
+public class BankWindow extends JInternalFrame implements ItemContainer {
+    private static final Comparator<ItemDef> BY_NAME = Comparator.comparing(ItemDef::getName, String.CASE_INSENSITIVE_ORDER);
+
     private GameFrame gameFrame;
-    private Map<String, Item> items;
-    private JPanel bankPanel;
+    private int[] counts; // How many of each item the bank holds, by item id
+    private List<ItemDef> sortedItems; // Every bank item, sorted by name ignoring case
+    private ImageIcon[] icons; // The cell icon of each item, by item id, kept once an item has been shown
+    private BankListModel listModel;
+    private JList<ItemDef> bankList;
+    private JTextField searchField;
 
     public BankWindow(GameFrame gameFrame) {
         super("Bank", true, true, true, true);
         this.gameFrame = gameFrame;
-        this.items = new HashMap<>();
-        this.bankPanel = new JPanel(new GridLayout(8, 3, 5, 5));
-        this.bankPanel.setBackground(Color.LIGHT_GRAY);
+        this.counts = new int[gameFrame.getItemRegistry().size()];
+        this.sortedItems = new ArrayList<>();
+        this.icons = new ImageIcon[gameFrame.getItemRegistry().size()];
+        this.listModel = new BankListModel();
+
+        // Fixed cell sizes let the list lay out and paint only the visible cells
+        bankList = new JList<>(listModel);
+        bankList.setLayoutOrientation(JList.HORIZONTAL_WRAP);
+        bankList.setVisibleRowCount(-1);
+        bankList.setFixedCellWidth(185);
+        bankList.setFixedCellHeight(95);
+        bankList.setBackground(Color.LIGHT_GRAY);
+        bankList.setCellRenderer(new BankCellRenderer());
+        bankList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        bankList.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                ItemDef item = getItemAt(e.getPoint());
+                if (item == null) {
+                    return;
+                }
+                if (SwingUtilities.isRightMouseButton(e)) {
+                    showWithdrawMenu(e, item);
+                } else if (SwingUtilities.isLeftMouseButton(e)) {
+                    withdrawItemFromBank(item, getCount(item.getId()));
+                }
+            }
+        });
 
-        JScrollPane scrollPane = new JScrollPane(bankPanel);
+        searchField = new JTextField();
+        searchField.setToolTipText("Search the bank");
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                refreshBankPanel();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                refreshBankPanel();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                refreshBankPanel();
+            }
+        });
+
+        JPanel searchPanel = new JPanel(new BorderLayout(5, 0));
+        searchPanel.add(new JLabel(" Search: "), BorderLayout.WEST);
+        searchPanel.add(searchField, BorderLayout.CENTER);
+
+        JScrollPane scrollPane = new JScrollPane(bankList);
+        getContentPane().add(searchPanel, BorderLayout.NORTH);
         getContentPane().add(scrollPane, BorderLayout.CENTER);
 
         setSize(600, 400);
@@ -34,103 +97,212 @@ public class BankWindow extends JInternalFrame {
         });
     }
 
-    public void addItemToBank(Item item) {
-        if (items.containsKey(item.getName())) {
-            items.get(item.getName()).incrementCount(item.getCount());
-        } else {
-            items.put(item.getName(), item);
-        }
+    public void addItemToBank(ItemDef item, int count) {
+        addCount(item, count);
         refreshBankPanel();
     }
 
+    /**
+     * Moves every inventory stack into the bank in a single transfer.
+     */
     public void depositAllItemsToBank() {
         Inventory inventory = gameFrame.getInventory();
+        Map<ItemDef, Integer> counts = new LinkedHashMap<>();
+        for (ItemStack stack : inventory.getItems()) {
+            counts.put(stack.getDef(), stack.getCount());
+        }
+        ItemTransfer.transfer(inventory, this, counts);
+    }
 
-        // Disable UI updates temporarily
-        bankPanel.setVisible(false);
+    @Override
+    public int getCount(int itemId) {
+        return itemId < counts.length ? counts[itemId] : 0;
+    }
 
-        // Use a Map to store item counts to update the bank in a batch
-        Map<String, Integer> itemCountMap = new HashMap<>();
+    @Override
+    public int getFreeStackCount() {
+        return Integer.MAX_VALUE; // The bank has no stack limit
+    }
 
-        for (Item item : inventory.getItems()) {
-            itemCountMap.put(item.getName(), item.getCount());
+    /**
+     * Adds to an item's count, inserting the item into the sorted index if the bank did not hold it.
+     */
+    @Override
+    public void addCount(ItemDef item, int count) {
+        int itemId = item.getId();
+        if (itemId >= counts.length) {
+            counts = Arrays.copyOf(counts, itemId + 1);
         }
+        if (counts[itemId] == 0) {
+            int index = Collections.binarySearch(sortedItems, item, BY_NAME);
+            sortedItems.add(index < 0 ? -index - 1 : index, item);
+        }
+        counts[itemId] += count;
+    }
 
-        // Add items to the bank in a batch
-        for (Map.Entry<String, Integer> entry : itemCountMap.entrySet()) {
-            String itemName = entry.getKey();
-            int itemCount = entry.getValue();
-
-            Item item = items.get(itemName);
-            if (item != null) {
-                item.incrementCount(itemCount);
-            } else {
-                Item inventoryItem = inventory.getItemByName(itemName);
-                items.put(itemName, new Item(inventoryItem.getName(), inventoryItem.getIconPath(), inventoryItem.getWeight(), inventoryItem.getExperience(), inventoryItem.getLevelRequirement(), itemCount));
+    @Override
+    public void removeCount(int itemId, int count) {
+        int held = getCount(itemId);
+        if (held == 0) {
+            return;
+        }
+        if (held > count) {
+            counts[itemId] = held - count;
+        } else {
+            counts[itemId] = 0;
+            ItemDef item = gameFrame.getItemRegistry().getItem(itemId);
+            int index = Collections.binarySearch(sortedItems, item, BY_NAME);
+            if (index >= 0) {
+                sortedItems.remove(index);
             }
         }
+    }
 
-        // Clear the inventory after transferring items
-        inventory.clear();
-
-        // Refresh the UI once after all items are processed
+    @Override
+    public void refresh() {
         refreshBankPanel();
-
-        // Re-enable UI updates
-        bankPanel.setVisible(true);
     }
 
+    /**
+     * Re-applies the search filter and repaints the visible cells.
+     */
     public void refreshBankPanel() {
-        bankPanel.removeAll();
+        listModel.setPrefix(searchField.getText().trim());
+    }
 
-        for (Item item : items.values()) {
-            bankPanel.add(createItemPanel(item));
+    private ItemDef getItemAt(Point point) {
+        int index = bankList.locationToIndex(point);
+        if (index < 0 || !bankList.getCellBounds(index, index).contains(point)) {
+            return null;
         }
+        return listModel.getElementAt(index);
+    }
 
-        bankPanel.revalidate();
-        bankPanel.repaint();
+    /**
+     * Finds the first index in the sorted items whose name is not before the prefix.
+     */
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = sortedItems.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(sortedItems.get(mid).getName(), prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
-    private JPanel createItemPanel(Item item) {
-        JPanel itemPanel = new JPanel(new BorderLayout());
-        itemPanel.setBorder(BorderFactory.createLineBorder(Color.BLACK));
+    /**
+     * Finds the end of the run of names that start with the prefix, which begins at {@code from}.
+     */
+    private int prefixEnd(String prefix, int from) {
+        int low = from;
+        int high = sortedItems.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedItems.get(mid).getName().regionMatches(true, 0, prefix, 0, prefix.length())) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
 
-        ImageIcon originalIcon = new ImageIcon(getClass().getResource(item.getIconPath()));
-        Image scaledImage = originalIcon.getImage().getScaledInstance(50, 50, Image.SCALE_SMOOTH);
-        ImageIcon scaledIcon = new ImageIcon(scaledImage);
+    /**
+     * A list model that shows the range of the sorted items matching the current search prefix.
+     * Filtering is two binary searches, so it costs the same no matter how large the bank is.
+     */
+    private class BankListModel extends AbstractListModel<ItemDef> {
+        private int from = 0;
+        private int to = 0;
+
+        void setPrefix(String prefix) {
+            int oldSize = to - from;
+            if (prefix.isEmpty()) {
+                from = 0;
+                to = sortedItems.size();
+            } else {
+                from = lowerBound(prefix);
+                to = prefixEnd(prefix, from);
+            }
+            int newSize = to - from;
+            if (newSize < oldSize) {
+                fireIntervalRemoved(this, newSize, oldSize - 1);
+            } else if (newSize > oldSize) {
+                fireIntervalAdded(this, oldSize, newSize - 1);
+            }
+            if (newSize > 0) {
+                fireContentsChanged(this, 0, newSize - 1);
+            }
+        }
 
-        JLabel iconLabel = new JLabel(scaledIcon, JLabel.CENTER);
-        JLabel nameLabel = new JLabel(item.getName(), JLabel.CENTER);
-        JLabel countLabel = new JLabel("x" + item.getCount(), JLabel.CENTER);
+        @Override
+        public int getSize() {
+            return to - from;
+        }
 
-        itemPanel.add(nameLabel, BorderLayout.NORTH);
-        itemPanel.add(iconLabel, BorderLayout.CENTER);
-        itemPanel.add(countLabel, BorderLayout.SOUTH);
+        @Override
+        public ItemDef getElementAt(int index) {
+            return sortedItems.get(from + index);
+        }
+    }
 
-        itemPanel.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseClicked(MouseEvent e) {
-                if (SwingUtilities.isRightMouseButton(e)) {
-                    showWithdrawMenu(e, item);
-                } else if (SwingUtilities.isLeftMouseButton(e)) {
-                    withdrawItemFromBank(item, item.getCount());
-                }
-            }
-        });
+    /**
+     * Renders a bank cell. One set of components is reused to paint every visible cell.
+     */
+    private class BankCellRenderer extends JPanel implements ListCellRenderer<ItemDef> {
+        private final JLabel nameLabel = new JLabel("", JLabel.CENTER);
+        private final JLabel iconLabel = new JLabel("", JLabel.CENTER);
+        private final JLabel countLabel = new JLabel("", JLabel.CENTER);
+
+        BankCellRenderer() {
+            super(new BorderLayout());
+            setBorder(BorderFactory.createCompoundBorder(
+                    BorderFactory.createLineBorder(Color.LIGHT_GRAY, 2),
+                    BorderFactory.createLineBorder(Color.BLACK)));
+            add(nameLabel, BorderLayout.NORTH);
+            add(iconLabel, BorderLayout.CENTER);
+            add(countLabel, BorderLayout.SOUTH);
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends ItemDef> list, ItemDef item, int index, boolean isSelected, boolean cellHasFocus) {
+            nameLabel.setText(item.getName());
+            iconLabel.setIcon(getIcon(item));
+            countLabel.setText("x" + getCount(item.getId()));
+            setBackground(isSelected ? list.getSelectionBackground() : list.getBackground());
+            return this;
+        }
+    }
 
-        return itemPanel;
+    /**
+     * Returns an item's cell icon. The bank keeps its own reference, so scrolling never has to decode an icon again.
+     */
+    private ImageIcon getIcon(ItemDef item) {
+        int itemId = item.getId();
+        if (itemId >= icons.length) {
+            icons = Arrays.copyOf(icons, itemId + 1);
+        }
+        if (icons[itemId] == null) {
+            icons[itemId] = IconCache.getIcon(item.getIconPath(), 50, 50);
+        }
+        return icons[itemId];
     }
 
-    private void showWithdrawMenu(MouseEvent e, Item item) {
+    private void showWithdrawMenu(MouseEvent e, ItemDef item) {
         JPopupMenu menu = new JPopupMenu();
 
         JMenuItem withdrawItem = new JMenuItem("Withdraw");
         JMenuItem withdrawAllItem = new JMenuItem("Withdraw All");
 
         withdrawItem.addActionListener(e1 -> {
-            String countStr = JOptionPane.showInputDialog(gameFrame, "Enter amount to withdraw:", item.getCount());
+            String countStr = JOptionPane.showInputDialog(gameFrame, "Enter amount to withdraw:", getCount(item.getId()));
             int count = Integer.parseInt(countStr);
-            if (count > 0 && count <= item.getCount()) {
+            if (count > 0 && count <= getCount(item.getId())) {
                 withdrawItemFromBank(item, count);
             } else {
                 JOptionPane.showMessageDialog(gameFrame, "Invalid amount.");
@@ -138,7 +310,7 @@ public class BankWindow extends JInternalFrame {
         });
 
         withdrawAllItem.addActionListener(e1 -> {
-            withdrawItemFromBank(item, item.getCount());
+            withdrawItemFromBank(item, getCount(item.getId()));
         });
 
         menu.add(withdrawItem);
@@ -147,21 +319,18 @@ public class BankWindow extends JInternalFrame {
         menu.show(e.getComponent(), e.getX(), e.getY());
     }
 
-    private void withdrawItemFromBank(Item item, int count) {
-        if (gameFrame.getInventory().isFull()) {
-            JOptionPane.showMessageDialog(this, "Inventory is full. Cannot withdraw items.");
+    private void withdrawItemFromBank(ItemDef item, int count) {
+        Inventory inventory = gameFrame.getInventory();
+        if (ItemTransfer.transfer(this, inventory, Collections.singletonMap(item, count))) {
             return;
         }
-
-        Item bankItem = items.get(item.getName());
-        if (bankItem.getCount() > count) {
-            bankItem.decrementCount(count);
+        // The transfer moved nothing, so work out why for the message
+        if (count <= 0 || count > getCount(item.getId())) {
+            JOptionPane.showMessageDialog(this, "Invalid amount.");
+        } else if (inventory.getCount(item.getId()) == 0 && inventory.getFreeStackCount() == 0) {
+            JOptionPane.showMessageDialog(this, "Inventory is full. Cannot withdraw items.");
         } else {
-            items.remove(item.getName());
+            JOptionPane.showMessageDialog(this, "Cannot withdraw " + item.getName() + ".");
         }
-
-        gameFrame.getInventory().addItem(new Item(item.getName(), item.getIconPath(), item.getWeight(), item.getExperience(), item.getLevelRequirement(), count));
-        refreshBankPanel();
-        gameFrame.refreshInventoryPanel();
     }
-}
\ No newline at end of file
+}
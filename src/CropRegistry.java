@@ -0,0 +1,148 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CropRegistry holds every crop that can be farmed, loaded from a CSV data file at startup.
+ * Each seed gets a dense id in file order. Stage image paths and growth time sums are worked
+ * out once when the file is loaded, so growing and drawing crops never builds strings.
+ *
+ * <p>Each line of the file is
+ * {@code seedName,cropName,cropImagePath,baseYield,baseExperience,stageImagePrefix,growthTimes},
+ * where the growth times are milliseconds per stage separated by semicolons. Blank lines and
+ * lines starting with {@code #} are ignored.</p>
+ */
+public class CropRegistry {
+    private final List<SeedInfo> seeds = new ArrayList<>();
+    private final List<CropData> crops = new ArrayList<>(); // The crop each seed grows into, by seed id
+    private final Map<String, Integer> seedIds = new HashMap<>();
+
+    /**
+     * Loads the registry from a classpath resource.
+     *
+     * @param resourcePath the classpath path of the CSV file
+     * @return the registry, which is empty if the file could not be read
+     */
+    public static CropRegistry load(String resourcePath) {
+        CropRegistry registry = new CropRegistry();
+        InputStream inputStream = CropRegistry.class.getResourceAsStream(resourcePath);
+        if (inputStream == null) {
+            System.err.println("Error: Crop data not found: " + resourcePath);
+            return registry;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    registry.parseLine(line);
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Error: Skipping line " + lineNumber + " of " + resourcePath + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error: Could not read crop data: " + resourcePath);
+            e.printStackTrace();
+        }
+        System.out.println("Loaded " + registry.size() + " crops from " + resourcePath);
+        return registry;
+    }
+
+    private void parseLine(String line) {
+        String[] fields = line.split(",");
+        if (fields.length != 7) {
+            throw new IllegalArgumentException("expected 7 fields but found " + fields.length);
+        }
+        String seedName = fields[0].trim();
+        if (seedIds.containsKey(seedName)) {
+            throw new IllegalArgumentException("duplicate seed " + seedName);
+        }
+
+        List<Integer> growthTimes = new ArrayList<>();
+        for (String growthTime : fields[6].split(";")) {
+            growthTimes.add(Integer.parseInt(growthTime.trim()));
+        }
+        if (growthTimes.isEmpty()) {
+            throw new IllegalArgumentException("no growth stages for " + seedName);
+        }
+
+        CropData cropData = new CropData(fields[1].trim(), fields[2].trim(), Integer.parseInt(fields[3].trim()), Integer.parseInt(fields[4].trim()));
+        SeedInfo seedInfo = new SeedInfo(seedName, growthTimes.size(), Collections.unmodifiableList(growthTimes), fields[5].trim());
+        seedIds.put(seedName, seeds.size());
+        seeds.add(seedInfo);
+        crops.add(cropData);
+    }
+
+    public int size() {
+        return seeds.size();
+    }
+
+    /**
+     * Returns the id of a seed.
+     *
+     * @param seedName the name of the seed
+     * @return the seed id, or -1 if there is no such seed
+     */
+    public int getSeedId(String seedName) {
+        Integer seedId = seedIds.get(seedName);
+        return seedId != null ? seedId : -1;
+    }
+
+    public SeedInfo getSeed(int seedId) {
+        return seeds.get(seedId);
+    }
+
+    /**
+     * Returns a seed by name.
+     *
+     * @param seedName the name of the seed
+     * @return the seed, or null if there is no such seed
+     */
+    public SeedInfo getSeed(String seedName) {
+        Integer seedId = seedIds.get(seedName);
+        return seedId != null ? seeds.get(seedId) : null;
+    }
+
+    /**
+     * Returns the crop a seed grows into.
+     *
+     * @param seedId the seed id
+     * @return the crop
+     */
+    public CropData getCrop(int seedId) {
+        return crops.get(seedId);
+    }
+
+    /**
+     * Returns the crop a seed grows into.
+     *
+     * @param seedName the name of the seed
+     * @return the crop, or null if there is no such seed
+     */
+    public CropData getCrop(String seedName) {
+        Integer seedId = seedIds.get(seedName);
+        return seedId != null ? crops.get(seedId) : null;
+    }
+
+    /**
+     * Returns every seed in id order.
+     *
+     * @return an unmodifiable list of the seeds
+     */
+    public List<SeedInfo> getSeeds() {
+        return Collections.unmodifiableList(seeds);
+    }
+}
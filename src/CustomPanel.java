@@ -5,6 +5,7 @@ import java.util.List;
 
 /**
  * CustomPanel is a JPanel that displays a text with an optional image.
+ * The foraging toast draws one directly on the {@link EffectsLayer}.
  */
 public class CustomPanel extends JPanel {
     private String text;
@@ -42,6 +43,18 @@ public class CustomPanel extends JPanel {
     protected void paintComponent(Graphics g) {
         // Do not call super.paintComponent(g) to prevent the JPanel from drawing the background itself
         Graphics2D g2d = (Graphics2D) g.create();
+        paintContent(g2d, getWidth());
+        g2d.dispose();
+    }
+
+    /**
+     * Draws the text and image at the current opacity, so the panel can also be drawn by the {@link EffectsLayer}
+     * without being added to the window.
+     *
+     * @param g2d   the graphics to draw with, translated to the panel's top left corner
+     * @param width the width to wrap the text to
+     */
+    public void paintContent(Graphics2D g2d, int width) {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 
@@ -53,7 +66,7 @@ public class CustomPanel extends JPanel {
         g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
 
         // Split text into lines
-        List<String> lines = getWrappedLines(text, fm, getWidth() - 80); // Adjust width to accommodate the larger image
+        List<String> lines = getWrappedLines(text, fm, width - 80); // Adjust width to accommodate the larger image
 
         // Calculate text starting position
         int textX = 60; // Adjusted to leave more space for the larger image
@@ -73,8 +86,6 @@ public class CustomPanel extends JPanel {
             int imageY = textY - (2 * fm.getHeight()) - 7; // Move up and align with text
             g2d.drawImage(image, imageX, imageY, 50, 50, this); // Increased image size to 50x50
         }
-
-        g2d.dispose();
     }
 
     /**
@@ -0,0 +1,213 @@
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EffectsLayer draws the game's short-lived visual effects, such as foraged items flying into the
+ * basket, toasts and the level-up message. It is one transparent component on top of the window:
+ * every effect is advanced by a fixed time step on a single loop and all of them are painted
+ * together in one pass, so overlapping effects cost one repaint per frame instead of one per effect.
+ * Each frame only repaints the area the effects covered before and after the step, rather than the
+ * whole window. The loop only runs while there are effects to show.
+ *
+ * <p>The layer also keeps frame-time metrics, which are logged each time the loop goes idle.</p>
+ */
+public class EffectsLayer extends JComponent {
+    public static final int STEP_MILLIS = 20;
+    private static final long STEP_NANOS = STEP_MILLIS * 1_000_000L;
+    private static final int MAX_STEPS_PER_FRAME = 5; // Beyond this the effects skip ahead rather than fall further behind
+
+    private final GameScheduler scheduler;
+    private final List<Effect> effects = new ArrayList<>();
+    private final List<Effect> finishedEffects = new ArrayList<>();
+    private GameScheduler.Task loopTask;
+    private long lastFrameNanos;
+    private long lagNanos;
+
+    // Frame-time metrics since the loop last started
+    private int frameCount;
+    private int skippedSteps;
+    private long totalPaintNanos;
+    private long maxPaintNanos;
+    private long maxFrameIntervalNanos;
+    private int repaintCount;
+    private long totalRepaintPixels;
+
+    /**
+     * Constructs an EffectsLayer.
+     *
+     * @param scheduler the scheduler that drives the effects loop
+     */
+    public EffectsLayer(GameScheduler scheduler) {
+        this.scheduler = scheduler;
+        setOpaque(false);
+    }
+
+    /**
+     * A visual effect drawn by the layer.
+     */
+    public interface Effect {
+        /**
+         * Advances the effect by one time step.
+         *
+         * @param stepMillis the length of the step in milliseconds
+         * @return true if the effect is still running, false if it is done
+         */
+        boolean step(int stepMillis);
+
+        /**
+         * Draws the effect in the layer's coordinates.
+         *
+         * @param g the graphics to draw with, which the effect may change freely
+         */
+        void paint(Graphics2D g);
+
+        /**
+         * Returns the area the effect draws on at its current step, in the layer's coordinates.
+         * Nothing outside this area is repainted for the effect, so it must cover everything paint draws.
+         *
+         * @return the bounds of the effect
+         */
+        Rectangle getBounds();
+
+        /**
+         * Called once after the effect is done and no longer drawn.
+         */
+        default void finished() {
+        }
+    }
+
+    /**
+     * Starts showing an effect. It is drawn from the next frame until its step method reports it is done.
+     *
+     * @param effect the effect
+     */
+    public void addEffect(Effect effect) {
+        effects.add(effect);
+        repaint(effect.getBounds());
+        if (loopTask == null) {
+            lastFrameNanos = System.nanoTime();
+            lagNanos = 0;
+            frameCount = 0;
+            skippedSteps = 0;
+            totalPaintNanos = 0;
+            maxPaintNanos = 0;
+            maxFrameIntervalNanos = 0;
+            repaintCount = 0;
+            totalRepaintPixels = 0;
+            loopTask = scheduler.scheduleRepeating(STEP_MILLIS, STEP_MILLIS, this::runFrame);
+        }
+    }
+
+    /**
+     * Returns the number of effects being shown.
+     *
+     * @return the number of effects
+     */
+    public int getEffectCount() {
+        return effects.size();
+    }
+
+    /**
+     * The layer never takes mouse events, so clicks go to the components underneath.
+     */
+    @Override
+    public boolean contains(int x, int y) {
+        return false;
+    }
+
+    private void runFrame(GameScheduler.Task task) {
+        long now = System.nanoTime();
+        long frameInterval = now - lastFrameNanos;
+        maxFrameIntervalNanos = Math.max(maxFrameIntervalNanos, frameInterval);
+        lagNanos += frameInterval;
+        lastFrameNanos = now;
+
+        // The effects must be erased where they were and drawn where they are now, in one repaint
+        Rectangle dirtyRegion = getEffectBounds(null);
+
+        // Step the effects at a fixed rate however late the frame is, so they move at the same speed
+        int steps = 0;
+        while (lagNanos >= STEP_NANOS && steps < MAX_STEPS_PER_FRAME) {
+            stepEffects();
+            lagNanos -= STEP_NANOS;
+            steps++;
+        }
+        if (lagNanos >= STEP_NANOS) {
+            skippedSteps += (int) (lagNanos / STEP_NANOS);
+            lagNanos %= STEP_NANOS;
+        }
+        if (steps > 0) {
+            dirtyRegion = getEffectBounds(dirtyRegion);
+            if (dirtyRegion != null) {
+                repaintCount++;
+                totalRepaintPixels += (long) dirtyRegion.width * dirtyRegion.height;
+                repaint(dirtyRegion);
+            }
+        }
+
+        if (effects.isEmpty()) {
+            task.cancel();
+            loopTask = null;
+            logMetrics();
+        }
+    }
+
+    private Rectangle getEffectBounds(Rectangle region) {
+        for (Effect effect : effects) {
+            Rectangle bounds = effect.getBounds();
+            if (region == null) {
+                region = new Rectangle(bounds);
+            } else {
+                region.add(bounds);
+            }
+        }
+        return region;
+    }
+
+    private void stepEffects() {
+        for (int i = effects.size() - 1; i >= 0; i--) {
+            Effect effect = effects.get(i);
+            if (!effect.step(STEP_MILLIS)) {
+                effects.remove(i);
+                finishedEffects.add(effect);
+            }
+        }
+        // Run the callbacks after the loop, since they may add new effects
+        for (Effect effect : finishedEffects) {
+            effect.finished();
+        }
+        finishedEffects.clear();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (effects.isEmpty()) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        Rectangle clip = g.getClipBounds();
+        for (Effect effect : effects) {
+            if (clip != null && !clip.intersects(effect.getBounds())) {
+                continue;
+            }
+            Graphics2D g2d = (Graphics2D) g.create();
+            effect.paint(g2d);
+            g2d.dispose();
+        }
+        long paintNanos = System.nanoTime() - startTime;
+        frameCount++;
+        totalPaintNanos += paintNanos;
+        maxPaintNanos = Math.max(maxPaintNanos, paintNanos);
+    }
+
+    private void logMetrics() {
+        if (frameCount == 0 || repaintCount == 0) {
+            return;
+        }
+        System.out.println(String.format("Effects: %d frames, paint avg %.2f ms, max %.2f ms, repaint avg %d px, longest frame gap %.1f ms, %d steps skipped.",
+                frameCount, totalPaintNanos / 1e6 / frameCount, maxPaintNanos / 1e6, totalRepaintPixels / repaintCount,
+                maxFrameIntervalNanos / 1e6, skippedSteps));
+    }
+}
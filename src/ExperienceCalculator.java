@@ -27,20 +27,88 @@ public class ExperienceCalculator {
         return EXPERIENCE_TABLE[level - 1];
     }
 
+    /**
+     * Returns the experience points required for the level after the specified one.
+     * At the maximum level the requirement of the maximum level itself is returned.
+     *
+     * @param level the current level
+     * @return the experience points required for the next level
+     */
+    public static long getExperienceForNextLevel(int level) {
+        return getExperienceForLevel(Math.min(level + 1, EXPERIENCE_TABLE.length));
+    }
+
+    /**
+     * Returns the highest level in the experience table.
+     *
+     * @return the maximum level
+     */
+    public static int getMaxLevel() {
+        return EXPERIENCE_TABLE.length;
+    }
+
     /**
      * Calculates the new level based on the experience points and current level.
+     * The level never decreases and may jump several levels at once.
      *
      * @param experience   the experience points
      * @param currentLevel the current level
      * @return the new level
      */
     public static int calculateNewLevel(long experience, int currentLevel) {
-        for (int level = currentLevel; level < EXPERIENCE_TABLE.length; level++) {
-            if (experience < EXPERIENCE_TABLE[level]) {
-                return level;
+        int reachedLevel = countLevelsReached(experience);
+        return Math.min(EXPERIENCE_TABLE.length, Math.max(currentLevel, reachedLevel));
+    }
+
+    /**
+     * Adds experience points and works out the resulting level in one step.
+     * The experience required for each level reached is taken off in turn, so one call with a large
+     * gain ends in the same level and experience as many calls with the small gains that add up to it.
+     * At the maximum level the experience keeps accumulating.
+     *
+     * @param experience       the current experience points
+     * @param currentLevel     the current level
+     * @param experienceGained the experience points to add
+     * @return the resulting level, experience and every level crossed
+     */
+    public static ExperienceGain addExperience(long experience, int currentLevel, long experienceGained) {
+        long remainingExperience = experience + experienceGained;
+        int newLevel = currentLevel;
+        // EXPERIENCE_TABLE[level] is the experience needed to go from level to level + 1
+        while (newLevel < EXPERIENCE_TABLE.length && remainingExperience >= EXPERIENCE_TABLE[newLevel]) {
+            remainingExperience -= EXPERIENCE_TABLE[newLevel];
+            newLevel++;
+        }
+        return new ExperienceGain(currentLevel, newLevel, remainingExperience);
+    }
+
+    /**
+     * Counts the entries of the experience table that the experience points have reached,
+     * using a binary search for the first entry above them.
+     */
+    private static int countLevelsReached(long experience) {
+        int low = 0;
+        int high = EXPERIENCE_TABLE.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (EXPERIENCE_TABLE[mid] <= experience) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        return EXPERIENCE_TABLE.length;
+        return low;
+    }
+
+    private static int[] levelRange(int fromLevel, int toLevel) {
+        if (toLevel <= fromLevel) {
+            return new int[0];
+        }
+        int[] levels = new int[toLevel - fromLevel];
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = fromLevel + 1 + i;
+        }
+        return levels;
     }
 
     /**
@@ -56,4 +124,44 @@ public class ExperienceCalculator {
         }
         return EXPERIENCE_TABLE[level] - experience;
     }
-}
\ No newline at end of file
+
+    /**
+     * The outcome of adding experience points: the new level, the remaining experience and the levels crossed.
+     */
+    public static class ExperienceGain {
+        private final int previousLevel;
+        private final int newLevel;
+        private final long experience;
+
+        ExperienceGain(int previousLevel, int newLevel, long experience) {
+            this.previousLevel = previousLevel;
+            this.newLevel = newLevel;
+            this.experience = experience;
+        }
+
+        public int getPreviousLevel() {
+            return previousLevel;
+        }
+
+        public int getNewLevel() {
+            return newLevel;
+        }
+
+        public long getExperience() {
+            return experience;
+        }
+
+        public boolean isLevelUp() {
+            return newLevel > previousLevel;
+        }
+
+        /**
+         * Returns every level crossed by this gain.
+         *
+         * @return the levels crossed in ascending order, empty if there was no level-up
+         */
+        public int[] getLevelsCrossed() {
+            return levelRange(previousLevel, newLevel);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+import java.util.Random;
+
+/**
+ * ExperienceCalculatorBenchmark compares the binary-search level lookup in {@link ExperienceCalculator}
+ * against the linear scan it replaced. The project has no build tool to pull in JMH, so this is a
+ * small hand-rolled harness: it warms both versions up, then times them on the same random inputs.
+ *
+ * <p>Usage: {@code java ExperienceCalculatorBenchmark [iterations]}</p>
+ */
+public class ExperienceCalculatorBenchmark {
+
+    private static final int INPUT_COUNT = 4096;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static final long[] EXPERIENCE_TABLE = new long[ExperienceCalculator.getMaxLevel()];
+
+    static {
+        for (int level = 1; level <= EXPERIENCE_TABLE.length; level++) {
+            EXPERIENCE_TABLE[level - 1] = ExperienceCalculator.getExperienceForLevel(level);
+        }
+    }
+
+    /**
+     * The previous implementation of {@link ExperienceCalculator#calculateNewLevel(long, int)}, kept as a baseline.
+     */
+    static int linearNewLevel(long experience, int currentLevel) {
+        for (int level = currentLevel; level < EXPERIENCE_TABLE.length; level++) {
+            if (experience < EXPERIENCE_TABLE[level]) {
+                return level;
+            }
+        }
+        return EXPERIENCE_TABLE.length;
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+
+        Random random = new Random(42);
+        long[] experience = new long[INPUT_COUNT];
+        int[] currentLevel = new int[INPUT_COUNT];
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            currentLevel[i] = 1 + random.nextInt(EXPERIENCE_TABLE.length / 4);
+            experience[i] = (long) (random.nextDouble() * EXPERIENCE_TABLE[EXPERIENCE_TABLE.length - 1]);
+        }
+
+        // Both versions must agree before their speed means anything
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            if (linearNewLevel(experience[i], currentLevel[i]) != ExperienceCalculator.calculateNewLevel(experience[i], currentLevel[i])) {
+                throw new IllegalStateException("Level mismatch for experience " + experience[i] + " at level " + currentLevel[i]);
+            }
+        }
+
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            checksum += runLinear(experience, currentLevel, iterations);
+            checksum += runBinary(experience, currentLevel, iterations);
+        }
+
+        long linearNanos = 0;
+        long binaryNanos = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            checksum += runLinear(experience, currentLevel, iterations);
+            linearNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            checksum += runBinary(experience, currentLevel, iterations);
+            binaryNanos += System.nanoTime() - start;
+        }
+
+        double operations = (double) MEASURED_ROUNDS * iterations * INPUT_COUNT;
+        System.out.printf("Linear scan:   %.2f ns/op%n", linearNanos / operations);
+        System.out.printf("Binary search: %.2f ns/op%n", binaryNanos / operations);
+        System.out.println("(checksum " + checksum + ")");
+    }
+
+    private static long runLinear(long[] experience, int[] currentLevel, int iterations) {
+        long sum = 0;
+        for (int n = 0; n < iterations; n++) {
+            for (int i = 0; i < INPUT_COUNT; i++) {
+                sum += linearNewLevel(experience[i], currentLevel[i]);
+            }
+        }
+        return sum;
+    }
+
+    private static long runBinary(long[] experience, int[] currentLevel, int iterations) {
+        long sum = 0;
+        for (int n = 0; n < iterations; n++) {
+            for (int i = 0; i < INPUT_COUNT; i++) {
+                sum += ExperienceCalculator.calculateNewLevel(experience[i], currentLevel[i]);
+            }
+        }
+        return sum;
+    }
+}
@@ -1,36 +1,65 @@
+/**
+ * FarmPlot is a view of one plot in a {@link FarmPlotStore}. It holds no state of its own,
+ * so it always shows the plot's current crop and growth stage.
+ */
 public class FarmPlot {
-    private String cropName;
-    private int growthStage;
-    private int maxGrowthStage;
-    private SeedInfo seedInfo;
+    private final FarmPlotStore store;
+    private final int index;
 
-    public FarmPlot(SeedInfo seedInfo) {
-        this.seedInfo = seedInfo;
-        this.cropName = seedInfo.getSeedName();
-        this.growthStage = 0;
-        this.maxGrowthStage = seedInfo.getMaxStage();
+    FarmPlot(FarmPlotStore store, int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the name used for the plot's label, such as "plot_1" for the first plot.
+     *
+     * @return the plot name
+     */
+    public String getName() {
+        return "plot_" + (index + 1);
+    }
+
+    public boolean isEmpty() {
+        return store.isEmpty(index);
+    }
+
+    public SeedInfo getSeedInfo() {
+        return store.getSeedInfo(index);
     }
 
     public String getCropName() {
-        return cropName;
+        SeedInfo seedInfo = store.getSeedInfo(index);
+        return seedInfo != null ? seedInfo.getSeedName() : null;
     }
 
     public int getGrowthStage() {
-        return growthStage;
+        return store.getStage(index, System.currentTimeMillis());
+    }
+
+    public long getTimeUntilNextStage() {
+        return store.getTimeUntilNextStage(index, System.currentTimeMillis());
     }
 
-    public void incrementGrowthStage() {
-        if (growthStage < maxGrowthStage) {
-            growthStage++;
-        }
+    public boolean isFullyGrown() {
+        return store.isFullyGrown(index, System.currentTimeMillis());
     }
 
-    public boolean isFulllyGrown() {
-        return growthStage == maxGrowthStage;
+    /**
+     * Plants a seed in the plot.
+     *
+     * @param seedName the name of the seed
+     * @return true if the seed was planted, false if the plot is occupied or the seed is unknown
+     */
+    public boolean plant(String seedName) {
+        return store.plant(index, seedName, System.currentTimeMillis());
     }
 
     public void resetPlot() {
-        cropName = null;
-        growthStage = 0;
+        store.clear(index);
     }
 }
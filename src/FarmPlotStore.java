@@ -0,0 +1,160 @@
+import java.util.Arrays;
+
+/**
+ * FarmPlotStore holds the state of every farm plot in flat arrays indexed by plot number:
+ * the id of the planted seed and the time it was planted. Growth stages are not stored but
+ * worked out from the planting time, so plots never change while crops grow and the store
+ * allocates nothing after it is sized.
+ */
+public class FarmPlotStore {
+    public static final int EMPTY = -1;
+
+    private final CropRegistry cropRegistry;
+    private final SeedInfo[] seedsById;
+    private int[] seedIdByPlot;
+    private long[] plantedAtByPlot;
+    private FarmPlot[] plotViews;
+
+    /**
+     * Constructs a FarmPlotStore.
+     *
+     * @param cropRegistry the crops that can be planted
+     * @param plotCount    the number of plots
+     */
+    public FarmPlotStore(CropRegistry cropRegistry, int plotCount) {
+        this.cropRegistry = cropRegistry;
+        this.seedsById = cropRegistry.getSeeds().toArray(new SeedInfo[0]);
+        this.seedIdByPlot = new int[0];
+        this.plantedAtByPlot = new long[0];
+        this.plotViews = new FarmPlot[0];
+        setPlotCount(plotCount);
+    }
+
+    public int getPlotCount() {
+        return seedIdByPlot.length;
+    }
+
+    /**
+     * Changes the number of plots. New plots start empty; plots beyond the new count are dropped.
+     *
+     * @param plotCount the new number of plots
+     */
+    public void setPlotCount(int plotCount) {
+        int oldCount = seedIdByPlot.length;
+        seedIdByPlot = Arrays.copyOf(seedIdByPlot, plotCount);
+        plantedAtByPlot = Arrays.copyOf(plantedAtByPlot, plotCount);
+        plotViews = Arrays.copyOf(plotViews, plotCount);
+        if (plotCount > oldCount) {
+            Arrays.fill(seedIdByPlot, oldCount, plotCount, EMPTY);
+        }
+    }
+
+    /**
+     * Returns the plot with the specified number.
+     *
+     * @param plot the plot number, starting at 0
+     * @return the plot
+     */
+    public FarmPlot getPlot(int plot) {
+        FarmPlot view = plotViews[plot];
+        if (view == null) {
+            view = new FarmPlot(this, plot);
+            plotViews[plot] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Plants a seed in an empty plot.
+     *
+     * @param plot      the plot number
+     * @param seedName  the name of the seed
+     * @param plantedAt the planting time in milliseconds since the epoch
+     * @return true if the seed was planted, false if the plot is occupied or the seed is unknown
+     */
+    public boolean plant(int plot, String seedName, long plantedAt) {
+        int seedId = cropRegistry.getSeedId(seedName);
+        if (seedId == EMPTY || seedIdByPlot[plot] != EMPTY) {
+            return false;
+        }
+        seedIdByPlot[plot] = seedId;
+        plantedAtByPlot[plot] = plantedAt;
+        return true;
+    }
+
+    public void clear(int plot) {
+        seedIdByPlot[plot] = EMPTY;
+        plantedAtByPlot[plot] = 0;
+    }
+
+    public boolean isEmpty(int plot) {
+        return seedIdByPlot[plot] == EMPTY;
+    }
+
+    /**
+     * Returns the seed planted in a plot.
+     *
+     * @param plot the plot number
+     * @return the seed, or null if the plot is empty
+     */
+    public SeedInfo getSeedInfo(int plot) {
+        int seedId = seedIdByPlot[plot];
+        return seedId != EMPTY ? seedsById[seedId] : null;
+    }
+
+    /**
+     * Returns the id of the seed planted in a plot, see {@link CropRegistry#getSeed(int)}.
+     *
+     * @param plot the plot number
+     * @return the seed id, or EMPTY if the plot is empty
+     */
+    public int getSeedId(int plot) {
+        return seedIdByPlot[plot];
+    }
+
+    public long getPlantedAt(int plot) {
+        return plantedAtByPlot[plot];
+    }
+
+    /**
+     * Returns the growth stage of the crop in a plot.
+     *
+     * @param plot the plot number
+     * @param now  the current time in milliseconds since the epoch
+     * @return the growth stage, or 0 if the plot is empty
+     */
+    public int getStage(int plot, long now) {
+        int seedId = seedIdByPlot[plot];
+        return seedId != EMPTY ? seedsById[seedId].getStageAt(now - plantedAtByPlot[plot]) : 0;
+    }
+
+    /**
+     * Returns the time until the crop in a plot reaches its next growth stage.
+     *
+     * @param plot the plot number
+     * @param now  the current time in milliseconds since the epoch
+     * @return the time in milliseconds, or -1 if the plot is empty or the crop is fully grown
+     */
+    public long getTimeUntilNextStage(int plot, long now) {
+        int seedId = seedIdByPlot[plot];
+        return seedId != EMPTY ? seedsById[seedId].getTimeUntilNextStage(now - plantedAtByPlot[plot]) : -1;
+    }
+
+    /**
+     * Moves every planted crop forward in time, as if the time had passed since it was planted.
+     *
+     * @param elapsedMillis the time to move forward in milliseconds
+     */
+    public void fastForward(long elapsedMillis) {
+        for (int plot = 0; plot < seedIdByPlot.length; plot++) {
+            if (seedIdByPlot[plot] != EMPTY) {
+                plantedAtByPlot[plot] -= elapsedMillis;
+            }
+        }
+    }
+
+    public boolean isFullyGrown(int plot, long now) {
+        int seedId = seedIdByPlot[plot];
+        return seedId != EMPTY && getStage(plot, now) >= seedsById[seedId].getMaxStage();
+    }
+}
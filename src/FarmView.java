@@ -0,0 +1,233 @@
+import javax.swing.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+/**
+ * FarmView shows one page of farm plots. It keeps a fixed set of plot cells and buttons
+ * that are created once; changing the page only binds the cells to different plots, so paging
+ * costs the same no matter how many plots the farm has. A plot's cell is found by arithmetic
+ * on its index rather than by searching the components.
+ */
+public class FarmView extends JPanel {
+    public static final int PLOTS_PER_PAGE = 6;
+    public static final int PLOT_SIZE = 90;
+    private static final int GRID_WIDTH = 3;
+    private static final int GRID_HEIGHT = 2;
+    private static final int HORIZONTAL_GAP = 50;
+    private static final int NO_PLOT = -1;
+
+    private final GameFrame gameFrame;
+    private final FarmPlotStore store;
+    private final JLabel[] cells = new JLabel[PLOTS_PER_PAGE];
+    private final int[] cellPlots = new int[PLOTS_PER_PAGE]; // The plot bound to each cell, or NO_PLOT
+    private final int[] cellStages = new int[PLOTS_PER_PAGE]; // The growth stage each cell shows, 0 for an empty plot
+    private final JButton backButton;
+    private final JButton nextButton;
+    private final JButton harvestAllButton;
+    private int page = 0;
+
+    /**
+     * Constructs a FarmView.
+     *
+     * @param gameFrame the main game frame, which handles planting and harvesting
+     * @param store     the farm plots to show
+     */
+    public FarmView(GameFrame gameFrame, FarmPlotStore store) {
+        super(null);
+        this.gameFrame = gameFrame;
+        this.store = store;
+        setOpaque(false);
+
+        for (int i = 0; i < PLOTS_PER_PAGE; i++) {
+            JLabel cell = new JLabel();
+            cell.setOpaque(false);
+            cell.setSize(PLOT_SIZE, PLOT_SIZE);
+            cellPlots[i] = NO_PLOT;
+
+            // The listener reads the bound plot when clicked, so it stays valid across page changes
+            cell.addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    if (getPlotIndex(cell) == NO_PLOT) {
+                        return;
+                    }
+                    if (SwingUtilities.isRightMouseButton(e)) {
+                        gameFrame.showPlantMenu(e, cell);
+                    } else if (SwingUtilities.isLeftMouseButton(e)) {
+                        gameFrame.harvestCrop(cell);
+                    }
+                }
+            });
+            cells[i] = cell;
+            add(cell);
+        }
+
+        backButton = new JButton("<--");
+        backButton.addActionListener(e -> showPage(page - 1));
+        nextButton = new JButton("-->");
+        nextButton.addActionListener(e -> showPage(page + 1));
+        harvestAllButton = new JButton("Harvest All");
+        harvestAllButton.addActionListener(e -> gameFrame.harvestAllCrops());
+        add(backButton);
+        add(nextButton);
+        add(harvestAllButton);
+    }
+
+    /**
+     * Sizes the view to the scene and positions the plot cells and buttons.
+     *
+     * @param width  the scene width
+     * @param height the scene height
+     */
+    public void layoutFor(int width, int height) {
+        setBounds(0, 0, width, height);
+        int xOffset = (width - (GRID_WIDTH * PLOT_SIZE + (GRID_WIDTH - 1) * HORIZONTAL_GAP)) / 2;
+        int yOffset = height - GRID_HEIGHT * PLOT_SIZE - 10;
+        for (int i = 0; i < PLOTS_PER_PAGE; i++) {
+            cells[i].setLocation(xOffset + (i % GRID_WIDTH) * (PLOT_SIZE + HORIZONTAL_GAP), yOffset + (i / GRID_WIDTH) * PLOT_SIZE);
+        }
+        backButton.setBounds(10, height - 40, 50, 30);
+        nextButton.setBounds(width - 60, height - 40, 50, 30);
+        harvestAllButton.setBounds(width - 130, 10, 120, 30);
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageCount() {
+        return (store.getPlotCount() + PLOTS_PER_PAGE - 1) / PLOTS_PER_PAGE;
+    }
+
+    /**
+     * Shows a page of plots by binding the cells to that page's plots.
+     *
+     * @param page the page number, starting at 0; it is clamped to the existing pages
+     */
+    public void showPage(int page) {
+        this.page = Math.max(0, Math.min(page, getPageCount() - 1));
+        int startPlot = this.page * PLOTS_PER_PAGE;
+        for (int i = 0; i < PLOTS_PER_PAGE; i++) {
+            int plot = startPlot + i;
+            if (plot < store.getPlotCount()) {
+                bind(i, plot);
+            } else {
+                cellPlots[i] = NO_PLOT;
+                cells[i].setName(null);
+                cells[i].setVisible(false);
+            }
+        }
+        backButton.setVisible(this.page > 0);
+        nextButton.setVisible(this.page < getPageCount() - 1);
+        repaint();
+        gameFrame.scheduleFarmRefresh();
+    }
+
+    private void bind(int cellIndex, int plot) {
+        JLabel cell = cells[cellIndex];
+        cellPlots[cellIndex] = plot;
+        cell.setName(store.getPlot(plot).getName());
+        cell.setVisible(true);
+        cellStages[cellIndex] = -1; // Force the image to be set
+        updateCell(cellIndex, System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the plot bound to a cell.
+     *
+     * @param cell a plot cell of this view
+     * @return the plot index, or -1 if the cell is not bound to a plot
+     */
+    public int getPlotIndex(JLabel cell) {
+        for (int i = 0; i < PLOTS_PER_PAGE; i++) {
+            if (cells[i] == cell) {
+                return cellPlots[i];
+            }
+        }
+        return NO_PLOT;
+    }
+
+    /**
+     * Returns the cell showing a plot.
+     *
+     * @param plot the plot index
+     * @return the cell, or null if the plot is not on the current page
+     */
+    public JLabel getCell(int plot) {
+        int cellIndex = plot - page * PLOTS_PER_PAGE;
+        if (cellIndex < 0 || cellIndex >= PLOTS_PER_PAGE || cellPlots[cellIndex] != plot) {
+            return null;
+        }
+        return cells[cellIndex];
+    }
+
+    /**
+     * Redraws a plot's cell if the plot is on the current page.
+     *
+     * @param plot the plot index
+     */
+    public void refreshPlot(int plot) {
+        JLabel cell = getCell(plot);
+        if (cell != null) {
+            updateCell(plot - page * PLOTS_PER_PAGE, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Redraws the cells whose plots changed growth stage since they were last drawn.
+     *
+     * @param now the current time in milliseconds since the epoch
+     */
+    public void refreshChangedCells(long now) {
+        for (int i = 0; i < PLOTS_PER_PAGE; i++) {
+            if (cellPlots[i] != NO_PLOT) {
+                updateCell(i, now);
+            }
+        }
+    }
+
+    /**
+     * Returns the time until a plot on the current page reaches its next growth stage.
+     *
+     * @param now the current time in milliseconds since the epoch
+     * @return the time in milliseconds, or -1 if no plot on the page is still growing
+     */
+    public long getTimeUntilNextChange(long now) {
+        long nextChange = Long.MAX_VALUE;
+        for (int plot : cellPlots) {
+            if (plot != NO_PLOT) {
+                long untilNextStage = store.getTimeUntilNextStage(plot, now);
+                if (untilNextStage >= 0) {
+                    nextChange = Math.min(nextChange, untilNextStage);
+                }
+            }
+        }
+        return nextChange != Long.MAX_VALUE ? nextChange : -1;
+    }
+
+    private void updateCell(int cellIndex, long now) {
+        int plot = cellPlots[cellIndex];
+        int stage = store.getStage(plot, now);
+        if (stage == cellStages[cellIndex]) {
+            return;
+        }
+        JLabel cell = cells[cellIndex];
+        if (stage == 0) {
+            cell.setIcon(PlotSpriteCache.getEmptyPlot(PLOT_SIZE, PLOT_SIZE));
+        } else {
+            SeedInfo seed = store.getSeedInfo(plot);
+            String seedName = seed.getSeedName();
+            ImageIcon sprite = PlotSpriteCache.getSprite(seed, stage, PLOT_SIZE, PLOT_SIZE);
+            if (sprite == null) {
+                System.err.println("Error: No plot image for " + seedName + " at stage " + stage);
+                return;
+            }
+            if (cellStages[cellIndex] > 0) {
+                System.out.println(seedName + " in " + cell.getName() + " reached stage " + stage);
+            }
+            cell.setIcon(sprite);
+        }
+        cellStages[cellIndex] = stage;
+        cell.repaint();
+    }
+}
@@ -1,8 +1,20 @@
 import javax.swing.*;
+import java.util.Map;
 
 public class FarmingGUI {
     public static void showHarvestDialog(int harvestedAmount, String itemName) {
         String message = "You harvested " + harvestedAmount + " " + itemName + "(s).";
         JOptionPane.showMessageDialog(null, message, "Harvest", JOptionPane.INFORMATION_MESSAGE);
     }
+
+    public static void showHarvestAllDialog(Map<String, Integer> harvestedAmounts, boolean inventoryFull) {
+        StringBuilder message = new StringBuilder("You harvested:");
+        for (Map.Entry<String, Integer> entry : harvestedAmounts.entrySet()) {
+            message.append("\n").append(entry.getValue()).append(" ").append(entry.getKey()).append("(s)");
+        }
+        if (inventoryFull) {
+            message.append("\nYour inventory is full, so some crops were left in their plots.");
+        }
+        JOptionPane.showMessageDialog(null, message.toString(), "Harvest", JOptionPane.INFORMATION_MESSAGE);
+    }
 }
@@ -1,36 +1,31 @@
+/**
+ * FarmingManager tracks the player's farming skill.
+ */
 public class FarmingManager {
-    private int farmingLevel;
-    private long farmingExperience;
-    private GameFrame gameFrame;
+    private Skill farmingSkill;
 
-    public FarmingManager(GameFrame gameFrame) {
-        this.gameFrame = gameFrame;
-        this.farmingLevel = 1;
-        this.farmingExperience = 0;
+    public FarmingManager() {
+        this.farmingSkill = new Skill("Farming");
     }
 
     public int getFarmingLevel() {
-        return farmingLevel;
+        return farmingSkill.getLevel();
     }
 
     public long getFarmingExperience() {
-        return farmingExperience;
+        return farmingSkill.getExperience();
     }
 
-    public void updateFarmingExperience(int experienceGained) {
-        farmingExperience += experienceGained;
-        checkForFarmingLevelUp();
+    public Skill getFarmingSkill() {
+        return farmingSkill;
     }
 
-    void checkForFarmingLevelUp() {
-        int newLevel = ExperienceCalculator.calculateNewLevel(farmingExperience, farmingLevel);
-        if (newLevel > farmingLevel) {
-            farmingLevel = newLevel;
-            farmingExperience -= ExperienceCalculator.getExperienceForLevel(farmingLevel);
-            gameFrame.updateFarmingLevelLabel(farmingLevel);
-            gameFrame.showLevelUpMessage(farmingLevel);
-        }
-        long maxExperience = ExperienceCalculator.getExperienceForLevel(farmingLevel + 1);
-        gameFrame.updateFarmingProgressBar(farmingExperience, maxExperience);
+    /**
+     * Adds farming experience. The Stats tab is updated by the SkillRegistry.
+     *
+     * @param experienceGained the experience points to add
+     */
+    public void updateFarmingExperience(int experienceGained) {
+        farmingSkill.addExperience(experienceGained);
     }
-}
\ No newline at end of file
+}
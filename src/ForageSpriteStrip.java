@@ -0,0 +1,118 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ForageSpriteStrip holds the frames of the animation in which a foraged item spins and shrinks on
+ * its way into the basket. The frames of an item are rendered once, the first time it is foraged,
+ * so playing the animation only picks a frame and draws it at the next point on the item's path.
+ * Strips are kept for the most recently foraged items.
+ */
+public class ForageSpriteStrip {
+    public static final int FRAME_COUNT = 41;
+    public static final int INITIAL_SIZE = 90;
+    private static final double ROTATION_PER_FRAME = Math.toRadians(10);
+    private static final int MAX_STRIPS = 16; // A strip is about 1 MB, so this keeps the cache near 16 MB
+
+    private static final int[] FRAME_SIZES = new int[FRAME_COUNT];
+    private static final Map<String, ImageIcon[]> STRIPS = new LinkedHashMap<String, ImageIcon[]>(32, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImageIcon[]> eldest) {
+            return size() > MAX_STRIPS;
+        }
+    };
+
+    static {
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            FRAME_SIZES[frame] = (int) (INITIAL_SIZE * getScale(frame));
+        }
+    }
+
+    private ForageSpriteStrip() {
+    }
+
+    /**
+     * Returns the animation progress of a frame, from 0 at the start to 1 at the basket.
+     *
+     * @param frame the frame number
+     * @return the progress
+     */
+    public static double getProgress(int frame) {
+        return (double) frame / (FRAME_COUNT - 1);
+    }
+
+    /**
+     * Returns the width and height of a frame.
+     *
+     * @param frame the frame number
+     * @return the frame size in pixels
+     */
+    public static int getFrameSize(int frame) {
+        return FRAME_SIZES[frame];
+    }
+
+    /**
+     * Returns the animation frames of an item, rendering them the first time.
+     *
+     * @param iconPath the path of the item's icon
+     * @return the frames, or null if the icon does not exist
+     */
+    public static ImageIcon[] getFrames(String iconPath) {
+        synchronized (STRIPS) {
+            ImageIcon[] frames = STRIPS.get(iconPath);
+            if (frames != null) {
+                return frames;
+            }
+        }
+
+        ImageIcon[] frames = renderFrames(iconPath);
+        if (frames != null) {
+            synchronized (STRIPS) {
+                STRIPS.put(iconPath, frames);
+            }
+        }
+        return frames;
+    }
+
+    private static double getScale(int frame) {
+        return 1.0 - (getProgress(frame) / 2.5);
+    }
+
+    private static ImageIcon[] renderFrames(String iconPath) {
+        BufferedImage source = IconCache.getImage(iconPath);
+        if (source == null) {
+            return null;
+        }
+
+        long startTime = System.nanoTime();
+        ImageIcon[] frames = new ImageIcon[FRAME_COUNT];
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            double scale = getScale(frame);
+            int size = FRAME_SIZES[frame];
+
+            BufferedImage image = IconCache.createCompatibleImage(size, size);
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+            // The frame is the part of a full size rotated image that the shrinking label used to show,
+            // which was its left edge, centered vertically
+            AffineTransform transform = new AffineTransform();
+            transform.translate(0, size / 2 - INITIAL_SIZE / 2);
+            transform.translate(size / 2.0, size / 2.0);
+            transform.rotate(ROTATION_PER_FRAME * (frame + 1));
+            transform.scale(scale, scale);
+            transform.translate(-INITIAL_SIZE / 2.0, -INITIAL_SIZE / 2.0);
+            g.setTransform(transform);
+            g.drawImage(source, 0, 0, INITIAL_SIZE, INITIAL_SIZE, null);
+            g.dispose();
+            frames[frame] = new ImageIcon(image);
+        }
+        System.out.println("Forage animation rendered for " + iconPath + " in " + (System.nanoTime() - startTime) / 1_000_000 + " ms.");
+        return frames;
+    }
+}
@@ -0,0 +1,192 @@
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ForagingEngine contains the game rules for foraging: rolling loot from a scene, awarding experience
+ * and tracking the foraging level. It has no AWT or Swing dependency, so it can run headless; the
+ * game window is just one {@link ForagingListener} among others.
+ */
+public class ForagingEngine {
+
+    // The fly-to-basket animation runs 42 ticks of 20 ms before the next forage can start
+    public static final int ANIMATION_TIME = 840;
+    private static final int BASE_FORAGING_TIME = 5000;
+    private static final int MIN_FORAGING_TIME = 1000;
+
+    private final Random random;
+    private final Map<Scene, LootSampler> lootSamplers = new HashMap<>();
+    private final List<ForagingListener> listeners = new CopyOnWriteArrayList<>();
+    private final Skill foragingSkill;
+
+    /**
+     * Constructs a ForagingEngine at level 1 with no experience.
+     *
+     * @param random the random number generator used for loot rolls
+     */
+    public ForagingEngine(Random random) {
+        this(random, 1, 0);
+    }
+
+    /**
+     * Constructs a ForagingEngine with the specified level and experience.
+     *
+     * @param random     the random number generator used for loot rolls
+     * @param level      the starting foraging level
+     * @param experience the starting foraging experience
+     */
+    public ForagingEngine(Random random, int level, long experience) {
+        this.random = random;
+        this.foragingSkill = new Skill("Foraging", level, experience);
+    }
+
+    public void addListener(ForagingListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(ForagingListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Rolls an item from the scene's loot table at the current foraging level.
+     *
+     * @param scene the scene to forage in
+     * @return the rolled item, or null if nothing in the scene is available at the current level
+     */
+    public ItemDef rollLoot(Scene scene) {
+        LootSampler lootSampler = getLootSampler(scene);
+        if (lootSampler.isEmpty()) {
+            for (ForagingListener listener : listeners) {
+                listener.nothingFound(scene);
+            }
+            return null;
+        }
+
+        ItemDef item = lootSampler.sample(random);
+        for (ForagingListener listener : listeners) {
+            listener.itemForaged(scene, item);
+        }
+        return item;
+    }
+
+    /**
+     * Rolls many items from the scene's loot table at the current foraging level in one batch.
+     * No listeners are notified and no experience is awarded, so the caller can award the total at once.
+     *
+     * @param scene the scene to forage in
+     * @param rolls the number of rolls
+     * @return the number of each item rolled, empty if nothing in the scene is available at the current level
+     */
+    public Map<ItemDef, Integer> rollLootBatch(Scene scene, int rolls) {
+        LootSampler lootSampler = getLootSampler(scene);
+        Map<ItemDef, Integer> counts = new LinkedHashMap<>();
+        if (lootSampler.isEmpty() || rolls <= 0) {
+            return counts;
+        }
+
+        int[] countsByIndex = new int[lootSampler.size()];
+        for (int i = 0; i < rolls; i++) {
+            countsByIndex[lootSampler.sampleIndex(random.nextInt(countsByIndex.length), random.nextDouble())]++;
+        }
+        for (int index = 0; index < countsByIndex.length; index++) {
+            if (countsByIndex[index] > 0) {
+                counts.merge(lootSampler.getItem(index), countsByIndex[index], Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Rolls an item from the scene and immediately awards its experience.
+     *
+     * @param scene the scene to forage in
+     * @return the rolled item, or null if nothing in the scene is available at the current level
+     */
+    public ItemDef forage(Scene scene) {
+        ItemDef item = rollLoot(scene);
+        if (item != null) {
+            gainExperience(item.getExperience());
+        }
+        return item;
+    }
+
+    /**
+     * Adds foraging experience and levels up if the new total is high enough.
+     * This may be called from any thread.
+     *
+     * @param exp the experience points to add
+     * @return the outcome of the gain, including any levels crossed
+     */
+    public ExperienceCalculator.ExperienceGain gainExperience(long exp) {
+        ExperienceCalculator.ExperienceGain gain = foragingSkill.addExperience(exp);
+        long experienceNeeded = ExperienceCalculator.getExperienceForNextLevel(gain.getNewLevel());
+        for (ForagingListener listener : listeners) {
+            listener.experienceGained(exp, gain.getExperience(), experienceNeeded, gain.isLevelUp());
+        }
+        if (gain.isLevelUp()) {
+            for (ForagingListener listener : listeners) {
+                listener.leveledUp(gain.getNewLevel());
+            }
+        }
+        return gain;
+    }
+
+    /**
+     * Returns how long a forage takes in the specified scene, in milliseconds.
+     * Scenes above the player's level take longer, scenes below it are quicker.
+     *
+     * @param scene the scene to forage in
+     * @return the foraging time in milliseconds
+     */
+    public int getForagingTime(Scene scene) {
+        return getForagingTime(scene, foragingSkill.getLevel());
+    }
+
+    /**
+     * Returns how long a forage takes in the specified scene at the specified level, in milliseconds.
+     *
+     * @param scene the scene to forage in
+     * @param level the foraging level
+     * @return the foraging time in milliseconds
+     */
+    public static int getForagingTime(Scene scene, int level) {
+        int levelDifference = scene.getDifficulty() - level;
+        int adjustedTime = BASE_FORAGING_TIME + (levelDifference * 100);
+        return Math.max(MIN_FORAGING_TIME, adjustedTime);
+    }
+
+    /**
+     * Returns the progress towards the next level as a percentage.
+     *
+     * @return the progress percentage
+     */
+    public double calculateProgress() {
+        return foragingSkill.getProgress();
+    }
+
+    public int getForagingLevel() {
+        return foragingSkill.getLevel();
+    }
+
+    public long getForagingExperience() {
+        return foragingSkill.getExperience();
+    }
+
+    public Skill getForagingSkill() {
+        return foragingSkill;
+    }
+
+    private LootSampler getLootSampler(Scene scene) {
+        int foragingLevel = foragingSkill.getLevel();
+        LootSampler lootSampler = lootSamplers.get(scene);
+        if (lootSampler == null || !lootSampler.isValidFor(scene.getLootTable(), foragingLevel)) {
+            lootSampler = LootSampler.build(scene.getLootTable(), foragingLevel);
+            lootSamplers.put(scene, lootSampler);
+        }
+        return lootSampler;
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * ForagingListener receives the loot and experience events produced by a {@link ForagingEngine}.
+ * All methods have empty default implementations so subscribers only override what they need.
+ */
+public interface ForagingListener {
+
+    /**
+     * Invoked when an item has been rolled from a scene's loot table.
+     *
+     * @param scene the scene that was foraged
+     * @param item  the item that was found
+     */
+    default void itemForaged(Scene scene, ItemDef item) {
+    }
+
+    /**
+     * Invoked when no item in the scene's loot table is available at the current foraging level.
+     *
+     * @param scene the scene that was foraged
+     */
+    default void nothingFound(Scene scene) {
+    }
+
+    /**
+     * Invoked after experience has been added.
+     *
+     * @param experienceGained the experience points that were gained
+     * @param experience       the experience points after the gain
+     * @param experienceNeeded the experience points needed for the next level
+     * @param leveledUp        true if the gain resulted in a level-up
+     */
+    default void experienceGained(long experienceGained, long experience, long experienceNeeded, boolean leveledUp) {
+    }
+
+    /**
+     * Invoked when the foraging level increases.
+     *
+     * @param newLevel the new foraging level
+     */
+    default void leveledUp(int newLevel) {
+    }
+}
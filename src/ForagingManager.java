@@ -1,30 +1,23 @@
 import javax.sound.sampled.*;
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
-import java.awt.geom.AffineTransform;
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 import java.util.logging.Logger;
 
 /**
- * ForagingManager handles the foraging process, including the timer, experience calculation,
- * and animations for collected items.
+ * ForagingManager connects the {@link ForagingEngine} to the game window. It handles the foraging
+ * delay, buttons, sounds and animations for collected items, while the engine owns the loot rolls
+ * and experience.
  */
 public class ForagingManager {
 
     private static final Logger LOGGER = Logger.getLogger(ForagingManager.class.getName());
 
     private GameFrame gameFrame;
-    private Timer forageTimer;
-    private Random random;
-    private int foragingLevel;
-    private long foragingExperience;
+    private GameScheduler.Task forageTask;
+    private ForagingEngine foragingEngine;
     private SoundManager soundManager;
     private boolean isForaging = false;
 
@@ -35,20 +28,19 @@ public class ForagingManager {
      */
     public ForagingManager(GameFrame gameFrame) {
         this.gameFrame = gameFrame;
-        this.random = new Random();
-        this.foragingLevel = 1;
-        this.foragingExperience = 0;
+        this.foragingEngine = new ForagingEngine(new Random());
         this.soundManager = new SoundManager();
-
-        if (gameFrame.getForagingProgressBar() != null) {
-            gameFrame.updateForagingProgressBar(foragingExperience, ExperienceCalculator.getExperienceForLevel(foragingLevel + 1));
-        }
+        foragingEngine.addListener(new ForagingUIListener());
     }
 
     public boolean getIsForagingBoolean() {
         return isForaging;
     }
 
+    public ForagingEngine getForagingEngine() {
+        return foragingEngine;
+    }
+
     /**
      * Starts the foraging process.
      */
@@ -60,54 +52,38 @@ public class ForagingManager {
         gameFrame.disableFarmButton();
         soundManager.stopSound("/foraging.wav");
         soundManager.playForagingSound();
-        forageTimer = new Timer(getForagingTime(), new ForagingTimerListener());
-        forageTimer.setRepeats(false);
-        forageTimer.start();
-    }
-
-    private class ForagingTimerListener implements ActionListener {
-        @Override
-        public void actionPerformed(ActionEvent e) {
-            Item foragedItem = performForaging();
+        forageTask = gameFrame.getScheduler().schedule(foragingEngine.getForagingTime(gameFrame.getCurrentScene()), () -> {
+            ItemDef foragedItem = foragingEngine.rollLoot(gameFrame.getCurrentScene());
             handleForagedItem(foragedItem);
-        }
+        });
     }
 
-    private Item performForaging() {
-        List<Item> lootTable = gameFrame.getCurrentScene().getLootTable();
-        List<Item> validItems = new ArrayList<>();
-
-        for (Item item : lootTable) {
-            if (item.getLevelRequirement() <= foragingLevel) {
-                validItems.add(item);
-            }
-        }
-
-        if (validItems.isEmpty()) {
+    /**
+     * Subscribes the game window to the foraging engine's events.
+     */
+    private class ForagingUIListener implements ForagingListener {
+        @Override
+        public void nothingFound(Scene scene) {
             JOptionPane.showMessageDialog(gameFrame, "Your foraging level is too low to find any items in this area.");
-            return null;
         }
 
-        int totalWeight = validItems.stream().mapToInt(Item::getWeight).sum();
-        int randomWeight = random.nextInt(totalWeight);
-        int currentWeight = 0;
-
-        for (Item item : validItems) {
-            currentWeight += item.getWeight();
-            if (currentWeight > randomWeight) {
-                return item;
-            }
+        @Override
+        public void leveledUp(int newLevel) {
+            // The Stats tab and level-up message are updated by the SkillRegistry
+            LOGGER.info("Leveled up! New Level: " + newLevel);
+            SwingUtilities.invokeLater(() -> soundManager.playSound("/foragingLevelUp.wav"));
         }
-        return null;
     }
 
-    private void handleForagedItem(Item foragedItem) {
+    private void handleForagedItem(ItemDef foragedItem) {
         if (foragedItem == null) {
             endForaging();
             return;
         }
 
-        if (gameFrame.getInventory().isFull()) {
+        // A full inventory can still take more of an item it already has a stack of
+        Inventory inventory = gameFrame.getInventory();
+        if (inventory.isFull() && inventory.getCount(foragedItem.getId()) == 0) {
             showInventoryFullMessage();
             endForaging();
             return;
@@ -115,22 +91,16 @@ public class ForagingManager {
 
         long startTime = System.nanoTime();
         int expGained = foragedItem.getExperience();
-        Item singleForagedItem = new Item(foragedItem.getName(), foragedItem.getIconPath(), foragedItem.getWeight(), expGained, foragedItem.getLevelRequirement(), 1);
-        animateForagedItem(singleForagedItem, () -> {
-            gainForagingExperience(expGained);
-            showForagedItemInfo(singleForagedItem, expGained, calculateProgress());
-            gameFrame.revealCollectedItem(singleForagedItem); // Reveal item in collections
+        animateForagedItem(foragedItem, () -> {
+            foragingEngine.gainExperience(expGained);
+            showForagedItemInfo(foragedItem, expGained, foragingEngine.calculateProgress());
+            gameFrame.revealCollectedItem(foragedItem); // Reveal item in collections
             endForaging();
         });
         long endTime = System.nanoTime();
         System.out.println("Foraged item handled in: " + (endTime - startTime) / 1_000_000 + " ms.");
     }
 
-    private double calculateProgress() {
-        long expNeeded = ExperienceCalculator.getExperienceForLevel(foragingLevel + 1);
-        return ((double) foragingExperience / expNeeded) * 100;
-    }
-
     private void endForaging() {
         gameFrame.enableMoveButton();
         gameFrame.enableForageButton();
@@ -140,188 +110,147 @@ public class ForagingManager {
     }
 
     public int getForagingLevel() {
-        return foragingLevel;
+        return foragingEngine.getForagingLevel();
     }
 
     public long getForagingExperience() {
-        return foragingExperience;
+        return foragingEngine.getForagingExperience();
     }
 
-    private synchronized void gainForagingExperience(int exp) {
-        foragingExperience += exp;
-        int newLevel = ExperienceCalculator.calculateNewLevel(foragingExperience, foragingLevel);
-        boolean leveledUp = newLevel > foragingLevel;
+    public void animateForagedItem(ItemDef foragedItem, Runnable onComplete) {
+        stopForagingSound();
+        gameFrame.getEffectsLayer().addEffect(new FlyingItemEffect(foragedItem, () -> {
+            playCollectSound(foragedItem.getWeight());
+            if (onComplete != null) {
+                onComplete.run();
+            }
+            SwingUtilities.invokeLater(() -> {
+                gameFrame.addForagedItemToInventory(foragedItem);
+            });
+        }));
+    }
 
-        if (leveledUp) {
-            foragingExperience -= ExperienceCalculator.getExperienceForLevel(newLevel);
-            foragingLevel = newLevel;
-            LOGGER.info("Leveled up! New Level: " + foragingLevel + " | Remaining Experience: " + foragingExperience + " | Next Level Experience: " + ExperienceCalculator.getExperienceForLevel(foragingLevel + 1));
+    /**
+     * A foraged item spinning along a curve into the basket, drawn over the scene.
+     */
+    private class FlyingItemEffect implements EffectsLayer.Effect {
+        private static final int BASKET_SIZE = 140;
+
+        private final Image initialImage;
+        private final ImageIcon[] frames;
+        private final Image basketImage;
+        private final Rectangle sceneBounds; // The scene panel in the effects layer's coordinates
+        private final int startX, startY, endX, endY, controlX, controlY, basketX, basketY;
+        private final Runnable onDone;
+        private int frame = -1; // The item is shown unrotated until the first step
+
+        FlyingItemEffect(ItemDef foragedItem, Runnable onDone) {
+            int initialSize = ForageSpriteStrip.INITIAL_SIZE;
+            this.initialImage = IconCache.getImage(foragedItem.getIconPath(), initialSize, initialSize);
+            this.frames = ForageSpriteStrip.getFrames(foragedItem.getIconPath());
+            this.basketImage = IconCache.getImage("/basket-transparent.png", BASKET_SIZE, BASKET_SIZE);
+            this.onDone = onDone;
+
+            JPanel scenePanel = gameFrame.getSceneImagePanel();
+            this.sceneBounds = SwingUtilities.convertRectangle(scenePanel.getParent(), scenePanel.getBounds(), gameFrame.getEffectsLayer());
+
+            startX = (scenePanel.getWidth() - initialSize) / 2;
+            startY = (scenePanel.getHeight() - initialSize) / 2;
+            basketX = scenePanel.getWidth() - BASKET_SIZE - 50;
+            basketY = (scenePanel.getHeight() - BASKET_SIZE) / 2;
+            endX = basketX + (BASKET_SIZE - initialSize) / 2 + 35;
+            endY = basketY + (BASKET_SIZE - initialSize) / 2 + 38;
+            controlX = (startX + endX) / 2;
+            controlY = startY - 150;
         }
 
-        final long finalExpNeeded = ExperienceCalculator.getExperienceForLevel(foragingLevel + 1);
-        final boolean finalLeveledUp = leveledUp;
+        @Override
+        public boolean step(int stepMillis) {
+            frame++;
+            return frame < ForageSpriteStrip.FRAME_COUNT;
+        }
 
-        LOGGER.info("Scheduling UI update for experience: " + foragingExperience + " / " + finalExpNeeded + " | Leveled Up: " + finalLeveledUp);
+        @Override
+        public void paint(Graphics2D g) {
+            g.clipRect(sceneBounds.x, sceneBounds.y, sceneBounds.width, sceneBounds.height);
+            g.translate(sceneBounds.x, sceneBounds.y);
+            g.drawImage(basketImage, basketX, basketY, null);
+            if (frame < 0) {
+                g.drawImage(initialImage, startX, startY, null);
+            } else if (frames != null) {
+                Rectangle item = getItemBounds();
+                g.drawImage(frames[frame].getImage(), item.x, item.y, null);
+            }
+        }
 
-        SwingUtilities.invokeLater(() -> {
-            LOGGER.info("Executing UI update for experience: " + foragingExperience + " / " + finalExpNeeded + " | Leveled Up: " + finalLeveledUp);
-            updateForagingUI(finalExpNeeded, finalLeveledUp);
-        });
-    }
+        @Override
+        public Rectangle getBounds() {
+            Rectangle bounds = new Rectangle(basketX, basketY, BASKET_SIZE, BASKET_SIZE);
+            bounds.add(getItemBounds());
+            bounds.translate(sceneBounds.x, sceneBounds.y);
+            return bounds.intersection(sceneBounds);
+        }
 
-    private void updateForagingUI(long finalExpNeeded, boolean leveledUp) {
-        gameFrame.updateForagingProgressBar(foragingExperience, finalExpNeeded);
-        if (leveledUp) {
-            gameFrame.updateForagingLevelLabel(foragingLevel);
-            soundManager.playSound("/foragingLevelUp.wav");
-            gameFrame.showLevelUpMessage(foragingLevel);
-            LOGGER.info("Level-up notification shown for level: " + foragingLevel);
+        /**
+         * Returns where the item is drawn at the current frame, in the scene's coordinates.
+         */
+        private Rectangle getItemBounds() {
+            if (frame < 0) {
+                return new Rectangle(startX, startY, ForageSpriteStrip.INITIAL_SIZE, ForageSpriteStrip.INITIAL_SIZE);
+            }
+            double t = ForageSpriteStrip.getProgress(frame);
+            double u = 1 - t;
+            int x = (int) (u * u * startX + 2 * u * t * controlX + t * t * endX);
+            int y = (int) (u * u * startY + 2 * u * t * controlY + t * t * endY);
+            int size = ForageSpriteStrip.getFrameSize(frame);
+            return new Rectangle(x, y, size, size);
         }
-    }
 
-    private int getForagingTime() {
-        int difficulty = gameFrame.getCurrentScene().getDifficulty();
-        int levelDifference = difficulty - foragingLevel;
-        int baseTime = 5000;
-        int adjustedTime = baseTime + (levelDifference * 100);
-        return Math.max(1000, adjustedTime);
+        @Override
+        public void finished() {
+            onDone.run();
+        }
     }
 
-    public void animateForagedItem(Item foragedItem, Runnable onComplete) {
-        JLabel itemLabel = new JLabel();
-        ImageIcon itemIcon = new ImageIcon(getClass().getResource(foragedItem.getIconPath()));
-        int initialSize = 90;
-        itemLabel.setIcon(new ImageIcon(itemIcon.getImage().getScaledInstance(initialSize, initialSize, Image.SCALE_SMOOTH)));
-        itemLabel.setSize(initialSize, initialSize);
-
-        JLabel basketLabel = new JLabel();
-        ImageIcon basketIcon = new ImageIcon(getClass().getResource("/basket-transparent.png"));
-        int basketSize = 140;
-        basketLabel.setIcon(new ImageIcon(basketIcon.getImage().getScaledInstance(basketSize, basketSize, Image.SCALE_SMOOTH)));
-        basketLabel.setSize(basketSize, basketSize);
+    private void showForagedItemInfo(ItemDef foragedItem, int expGained, double progress) {
+        String infoText = "+1 " + foragedItem.getName() + " (" + String.format("%.2f", progress) + "% to next level)";
+        Image scaledImage = IconCache.getImage(foragedItem.getIconPath(), 40, 40); // Increased image size to 40x40
+        CustomPanel infoPanel = new CustomPanel(infoText, scaledImage);
 
-        int startX = (gameFrame.getSceneImagePanel().getWidth() - initialSize) / 2;
-        int startY = (gameFrame.getSceneImagePanel().getHeight() - initialSize) / 2;
-        itemLabel.setLocation(startX, startY);
+        int panelWidth = 400;
+        int panelHeight = 100;
+        int panelX = 50;
+        int panelY = gameFrame.getHeight() - panelHeight - 150; // Position above the bottom bar
 
-        stopForagingSound();
+        // Float upwards and fade out
+        gameFrame.getEffectsLayer().addEffect(new EffectsLayer.Effect() {
+            private int age = 0;
 
-        int basketX = gameFrame.getSceneImagePanel().getWidth() - basketSize - 50;
-        int basketY = (gameFrame.getSceneImagePanel().getHeight() - basketSize) / 2;
-        basketLabel.setLocation(basketX, basketY);
-
-        gameFrame.getSceneImagePanel().setLayout(null);
-        gameFrame.getSceneImagePanel().add(basketLabel);
-        gameFrame.getSceneImagePanel().add(itemLabel);
-        gameFrame.getSceneImagePanel().setComponentZOrder(basketLabel, 1);
-        gameFrame.getSceneImagePanel().setComponentZOrder(itemLabel, 0);
-        gameFrame.getSceneImagePanel().repaint();
-
-        int endX = basketX + (basketSize - initialSize) / 2 + 35;
-        int endY = basketY + (basketSize - initialSize) / 2 + 38;
-        int controlX = (startX + endX) / 2;
-        int controlY = startY - 150;
-
-        Timer animationTimer = new Timer(20, new ActionListener() {
-            private double t = 0.0;
-            private double rotation = 0.0;
             @Override
-            public void actionPerformed(ActionEvent e) {
-                if (t <= 1.0) {
-                    double u = 1 - t;
-                    int x = (int) (u * u * startX + 2 * u * t * controlX + t * t * endX);
-                    int y = (int) (u * u * startY + 2 * u * t * controlY + t * t * endY);
-                    double scale = 1.0 - (t / 2.5);
-                    int newSize = (int) (initialSize * scale);
-                    rotation += Math.toRadians(10);
-
-                    BufferedImage originalImage = new BufferedImage(itemIcon.getIconWidth(), itemIcon.getIconHeight(), BufferedImage.TYPE_INT_ARGB);
-                    Graphics2D g2d = originalImage.createGraphics();
-                    g2d.drawImage(itemIcon.getImage(), 0, 0, null);
-                    g2d.dispose();
-
-                    BufferedImage transformedImage = new BufferedImage(initialSize, initialSize, BufferedImage.TYPE_INT_ARGB);
-                    Graphics2D g2dTransformed = transformedImage.createGraphics();
-                    g2dTransformed.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                    g2dTransformed.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-                    g2dTransformed.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                    AffineTransform affineTransform = new AffineTransform();
-                    affineTransform.translate(newSize / 2.0, newSize / 2.0);
-                    affineTransform.rotate(rotation);
-                    affineTransform.scale(scale, scale);
-                    affineTransform.translate(-initialSize / 2.0, -initialSize / 2.0);
-                    g2dTransformed.setTransform(affineTransform);
-                    g2dTransformed.drawImage(originalImage, 0, 0, initialSize, initialSize, null);
-                    g2dTransformed.dispose();
-
-                    itemLabel.setIcon(new ImageIcon(transformedImage));
-                    itemLabel.setSize(newSize, newSize);
-                    itemLabel.setLocation(x, y);
-
-                    t += 0.025;
-                }
-                else {
-                    ((Timer) e.getSource()).stop();
-                    gameFrame.getSceneImagePanel().remove(itemLabel);
-                    gameFrame.getSceneImagePanel().remove(basketLabel);
-                    gameFrame.getSceneImagePanel().repaint();
-                    playCollectSound(foragedItem.getWeight());
-                    if (onComplete != null) {
-                        onComplete.run();
-                    }
-                    SwingUtilities.invokeLater(() -> {
-                        gameFrame.addForagedItemToInventory(foragedItem);
-                    });
-                }
-                itemLabel.repaint();
+            public boolean step(int stepMillis) {
+                age += stepMillis;
+                return getOpacity() > 0;
             }
-        });
-        animationTimer.start();
-    }
 
-    private void showForagedItemInfo(Item foragedItem, int expGained, double progress) {
-        String infoText = "+1 " + foragedItem.getName() + " (" + String.format("%.2f", progress) + "% to next level)";
-        ImageIcon originalIcon = new ImageIcon(getClass().getResource(foragedItem.getIconPath()));
-        Image scaledImage = originalIcon.getImage().getScaledInstance(40, 40, Image.SCALE_SMOOTH); // Increased image size to 40x40
-        CustomPanel infoPanel = new CustomPanel(infoText, scaledImage);
-        infoPanel.setOpaque(false); // Ensure the panel background is transparent
-
-        // Increase the size of the infoPanel for better readability
-        infoPanel.setSize(400, 100); // Adjust size as needed
-        int panelX = 50;
-        int panelY = gameFrame.getHeight() - infoPanel.getHeight() - 150; // Position above the bottom bar
-        infoPanel.setLocation(panelX, panelY);
-
-        // Add the infoPanel to the layeredPane at the POPUP_LAYER
-        JLayeredPane layeredPane = gameFrame.getLayeredPane();
-        layeredPane.add(infoPanel, JLayeredPane.POPUP_LAYER);
+            private float getOpacity() {
+                return 1.0f - 0.03f * age / 50; // 0.03 every 50 ms
+            }
 
-        // Set a timer to animate the infoPanel upwards and fade out
-        Timer animationTimer = new Timer(50, new ActionListener() {
-            private float opacity = 1.0f;
-            private int y = panelY;
+            @Override
+            public void paint(Graphics2D g) {
+                Rectangle bounds = getBounds();
+                g.clipRect(bounds.x, bounds.y, bounds.width, bounds.height);
+                g.translate(bounds.x, bounds.y);
+                infoPanel.setOpacity(getOpacity());
+                infoPanel.paintContent(g, panelWidth);
+            }
 
             @Override
-            public void actionPerformed(ActionEvent e) {
-                if (opacity > 0) {
-                    y -= 4; // Move up by 4 pixels
-                    infoPanel.setLocation(panelX, y);
-
-                    opacity -= 0.03f; // Reduce opacity faster
-                    infoPanel.setOpacity(opacity);
-                    infoPanel.repaint();
-
-                    layeredPane.repaint();
-                } else {
-                    ((Timer) e.getSource()).stop();
-                    layeredPane.remove(infoPanel);
-                    layeredPane.repaint();
-                }
+            public Rectangle getBounds() {
+                int y = panelY - 4 * age / 50; // 4 pixels every 50 ms
+                return new Rectangle(panelX, y, panelWidth, panelHeight);
             }
         });
-        animationTimer.setRepeats(true);
-        animationTimer.start();
     }
 
     public void stopForagingSound() {
@@ -333,44 +262,43 @@ public class ForagingManager {
     }
 
     private void showInventoryFullMessage() {
-        JLabel infoLabel = new JLabel("Inventory Full");
-        infoLabel.setOpaque(false);
-        infoLabel.setForeground(Color.RED);
-        infoLabel.setFont(new Font("Serif", Font.BOLD, 24));
-
-        // Set the size and location of the infoLabel
-        infoLabel.setSize(infoLabel.getPreferredSize());
-        int labelX = (gameFrame.getWidth() - infoLabel.getWidth()) / 2;
+        String text = "Inventory Full";
+        Font font = new Font("Serif", Font.BOLD, 24);
+        FontMetrics fm = gameFrame.getFontMetrics(font);
+        int textWidth = fm.stringWidth(text);
+        int labelX = (gameFrame.getWidth() - textWidth) / 2;
         int labelY = gameFrame.getHeight() / 2;
-        infoLabel.setLocation(labelX, labelY);
 
-        // Add the infoLabel to the layeredPane at the POPUP_LAYER
-        JLayeredPane layeredPane = gameFrame.getLayeredPane();
-        layeredPane.add(infoLabel, JLayeredPane.POPUP_LAYER);
+        // Float upwards and fade out
+        gameFrame.getEffectsLayer().addEffect(new EffectsLayer.Effect() {
+            private int age = 0;
 
-        // Set a timer to animate the infoLabel upwards and fade out
-        Timer animationTimer = new Timer(50, new ActionListener() {
-            private float opacity = 1.0f;
-            private int y = labelY;
+            @Override
+            public boolean step(int stepMillis) {
+                age += stepMillis;
+                return getOpacity() > 0;
+            }
+
+            private float getOpacity() {
+                return 1.0f - 0.05f * age / 50; // 0.05 every 50 ms
+            }
+
+            private int getY() {
+                return labelY - 2 * age / 50; // 2 pixels every 50 ms
+            }
+
+            @Override
+            public void paint(Graphics2D g) {
+                g.setFont(font);
+                g.setColor(new Color(255, 0, 0, (int) (255 * Math.max(0, getOpacity()))));
+                g.drawString(text, labelX, getY() + fm.getAscent());
+            }
 
             @Override
-            public void actionPerformed(ActionEvent e) {
-                if (opacity > 0) {
-                    y -= 2;
-                    infoLabel.setLocation(labelX, y);
-
-                    opacity -= 0.05f;
-                    infoLabel.setForeground(new Color(255, 0, 0, (int) (255 * opacity)));
-
-                    layeredPane.repaint();
-                } else {
-                    ((Timer) e.getSource()).stop();
-                    layeredPane.remove(infoLabel);
-                    layeredPane.repaint();
-                }
+            public Rectangle getBounds() {
+                // A little wider than the advance, since glyphs can overhang it
+                return new Rectangle(labelX - 4, getY(), textWidth + 8, fm.getHeight());
             }
         });
-        animationTimer.setRepeats(true);
-        animationTimer.start();
     }
 }
\ No newline at end of file
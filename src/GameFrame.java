@@ -1,14 +1,14 @@
 import javax.swing.*;
-import javax.swing.Timer;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
-import java.net.URL;
 import java.util.*;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class GameFrame extends JFrame {
+    private static final int MAX_OFFLINE_FORAGE_ROLLS = 100_000;
+    private static final int COLLECTION_ICON_SIZE = 70;
 
     public java.util.List<JButton> mainButtons;
     public JPanel selectionBox;
@@ -30,36 +30,47 @@ public class GameFrame extends JFrame {
     private JLayeredPane layeredPane;
     private JTabbedPane tabbedPane;
     private JPanel statsPanel;
-    private JProgressBar foragingProgressBar;
-    private JLabel foragingLevelLabel;
     private JPanel collectionsCardPanel;
     private Map<String, JPanel> collectionsPanels;
-    private Set<String> discoveredItems;
-    private Map<String, ImageIcon> preloadedImages;
+    private BitSet discoveredItems; // A set bit marks a discovered item id
+    private ImageIcon[] collectionIcons; // The collections tab icon of each item, by item id
+    private ImageIcon[] collectionShadows; // The silhouette shown until an item is discovered, by item id
+    private Map<Integer, List<JLabel>> collectionLabels; // The collections tab labels of each item, by item id
     private JScrollPane collectionsScrollPane;
     private int farmPlotAmount = 10;
     boolean showPercentage = true;
-    private int currentFarmPage = 0;
     private Scene previousScene;
-    private Map<String, FarmPlotState> farmPlotStates = new HashMap<>();
-    private Map<String, Timer> growthTimers = new HashMap<>();
-    private Map<String, SeedInfo> seedInfoMap;
-    private JLabel farmingLevelLabel;
-    private JProgressBar farmingProgressBar;
+    private FarmPlotStore farmPlotStore;
+    private FarmView farmView; // Created the first time the farm is shown and kept afterwards
+    private GameScheduler.Task farmRefreshTask; // Runs when the next visible plot reaches a new growth stage
+    private ItemRegistry itemRegistry;
+    private CropRegistry cropRegistry;
     private FarmingManager farmingManager;
-    private List<FarmPlot> farmPlots = new ArrayList<>();
+    private SkillRegistry skillRegistry;
+    private GameScheduler scheduler;
+    private EffectsLayer effectsLayer; // Draws flying items, toasts and the level-up message over the whole window
 
-    public GameFrame(Map<String, Scene> scenes, Map<String, SeedInfo> seedInfoMap) {
+    public GameFrame(Map<String, Scene> scenes, ItemRegistry itemRegistry, CropRegistry cropRegistry) {
         this.scenes = scenes;
-        this.seedInfoMap = seedInfoMap;
+        this.itemRegistry = itemRegistry;
+        this.cropRegistry = cropRegistry;
         this.currentScene = scenes.get("forest");
         this.previousScene = null; // Start with no previous scene
-        this.discoveredItems = new HashSet<>();
+        this.discoveredItems = new BitSet(itemRegistry.size());
+        this.collectionLabels = new HashMap<>();
         this.collectionsPanels = new HashMap<>();
 
+        // Every delayed and animated action in the game runs on the scheduler's clock
+        this.scheduler = new GameScheduler();
+
         // Initialize the foraging manager first
         this.foragingManager = new ForagingManager(this);
-        this.farmingManager = new FarmingManager(this);
+        this.farmingManager = new FarmingManager();
+
+        // Every registered skill gets a progress bar in the Stats tab
+        this.skillRegistry = new SkillRegistry(this);
+        skillRegistry.register(foragingManager.getForagingEngine().getForagingSkill(), Color.YELLOW);
+        skillRegistry.register(farmingManager.getFarmingSkill(), Color.GREEN);
 
         mainButtons = new java.util.ArrayList<>(); // Explicitly use java.util.ArrayList
         selectionBox = new JPanel();
@@ -81,10 +92,11 @@ public class GameFrame extends JFrame {
         layeredPane.setPreferredSize(new Dimension(1400, 800));
         layeredPane.setBackground(Color.BLACK); // This is just a fallback, main color is set in contentPane
 
-        preloadImages(); // Preload all images
+        preloadCollectionIcons(); // Scale every item's collections icons before the tab is built
+        PlotSpriteCache.warmAsync(cropRegistry.getSeeds(), FarmView.PLOT_SIZE); // Compose the farm plot sprites in the background
 
         new MainContentPanelInitializer(this).initMainContentPanel(layeredPane, currentScene);
-        new TabbedPanelInitializer(this).initTabbedPanel(layeredPane, scenes, foragingManager);
+        new TabbedPanelInitializer(this).initTabbedPanel(layeredPane, scenes);
 
         // Initialize ButtonPanelInitializer and set the button panel
         this.buttonPanelInitializer = new ButtonPanelInitializer(this);
@@ -120,6 +132,9 @@ public class GameFrame extends JFrame {
         bankWindow.setBounds(200, 100, 600, 400);
         layeredPane.add(bankWindow, JLayeredPane.POPUP_LAYER);
         layeredPane.add(selectionBox, JLayeredPane.PALETTE_LAYER);
+        effectsLayer = new EffectsLayer(scheduler);
+        effectsLayer.setBounds(0, 0, 1400, 800);
+        layeredPane.add(effectsLayer, JLayeredPane.DRAG_LAYER);
         contentPane.add(layeredPane, BorderLayout.CENTER);
 
         updateButtonStates();
@@ -183,13 +198,6 @@ public class GameFrame extends JFrame {
         // Initial amount of farm plots, should be 0 by default
         setFarmPlotAmount(10);
 
-        for (SeedInfo seedInfo : Main.seedInfoMap.values()) {
-            FarmPlot farmPlot = new FarmPlot(seedInfo);
-            farmPlots.add(farmPlot);
-        }
-
-
-
         // Ensure the farm button visibility is updated based on farmPlotAmount
         updateFarmButtonVisibility();
 
@@ -201,23 +209,17 @@ public class GameFrame extends JFrame {
         SwingUtilities.invokeLater(() -> updateSelectionBox(mainButtons));
     }
 
-    private void harvestCrop(JLabel plotLabel) {
+    void harvestCrop(JLabel plotLabel) {
         System.out.println("----- Start harvestCrop Method ------");
-        String plotName = plotLabel.getName();
-        if (plotName == null || !farmPlotStates.containsKey(plotName)) {
+        FarmPlot farmPlot = getFarmPlot(plotLabel);
+        if (farmPlot == null || farmPlot.isEmpty()) {
             System.out.println("Plot is empty, no crop to harvest.");
             return;
         }
 
-        FarmPlotState plotState = farmPlotStates.get(plotName);
-        if (plotState == null) {
-            System.err.println("Error: plotState is null for plot: " + plotName);
-            return;
-        }
-
-        String cropName = plotState.seedName;
-        int growthStage = plotState.currentStage;
-        int maxGrowthStage = getMaxGrowthStageForCrop(cropName);
+        String cropName = farmPlot.getCropName();
+        int growthStage = farmPlot.getGrowthStage();
+        int maxGrowthStage = farmPlot.getSeedInfo().getMaxStage();
 
         System.out.println("Crop name: " + cropName);
         System.out.println("Growth stage for crop: " + growthStage);
@@ -229,7 +231,6 @@ public class GameFrame extends JFrame {
         }
 
         System.out.println("Crop is fully grown now, proceeding with harvesting...");
-        resetFarmPlotImage(plotLabel);
 
         CropData cropData = getCropDataForCrop(cropName);
         if (cropData == null) {
@@ -242,63 +243,24 @@ public class GameFrame extends JFrame {
         int farmingExperienceGained = calculateFarmingExperienceGained(cropData.getBaseExperience(), actualAmountHarvested);
         farmingManager.updateFarmingExperience(farmingExperienceGained);
 
-        farmPlotStates.remove(plotName); // Clear the plot state after harvesting
+        farmPlot.resetPlot(); // Clear the plot state after harvesting
+        farmView.refreshPlot(farmPlot.getIndex());
         System.out.println("----- End harvestCrop Method ------");
     }
 
-    public void setFarmingLevelLabel(JLabel farmingLevelLabel) {
-        this.farmingLevelLabel = farmingLevelLabel;
-    }
-
-    public void setFarmingProgressBar(JProgressBar farmingProgressBar) {
-        this.farmingProgressBar = farmingProgressBar;
-    }
-
-    private String getCropNameFromPlotLabel(JLabel plotLabel) {
-        String plotName = plotLabel.getName();
-        if (plotName != null && farmPlotStates.containsKey(plotName)) {
-            FarmPlotState plotState = farmPlotStates.get(plotName);
-            return plotState.seedName;
-        }
-        return null;
-    }
-
-    private void resetFarmPlotImage(JLabel plotLabel) {
-        ImageIcon plotIcon = new ImageIcon(getClass().getResource("/farmplot-transparent.png"));
-        Image scaledImage = plotIcon.getImage().getScaledInstance(plotLabel.getWidth(), plotLabel.getHeight(), Image.SCALE_SMOOTH);
-        plotLabel.setIcon(new ImageIcon(scaledImage));
-    }
-
-    private int getGrowthStageForCrop(String cropName) {
-        if (cropName == null) {
-            return 0;
-        }
-        FarmPlot farmPlot = getFarmPlotForCrop(cropName);
-        if (farmPlot != null) {
-            System.out.println("Retrieved growth stage for " + cropName + ": " + farmPlot.getGrowthStage());
-            return farmPlot.getGrowthStage();
-        } else {
-            System.out.println("No FarmPlot found for " + cropName + ", returning default growth stage.");
-            return 0;
-        }
-    }
-
-    private int getMaxGrowthStageForCrop(String cropName) {
-        if (cropName == null) {
-            System.out.println("getMaxGrowthStageForCrop: cropName is null");
-            return 0;
-        }
-        SeedInfo seedInfo = Main.seedInfoMap.get(cropName);
-        if (seedInfo == null) {
-            System.out.println("getMaxGrowthStageForCrop: seedInfo is null for cropName: " + cropName);
-            return 0;
-        }
-        System.out.println("getMaxGrowthStageForCrop: Returning maxStage for cropName: " + cropName);
-        return seedInfo.getMaxStage();
+    /**
+     * Returns the farm plot shown by a plot label.
+     *
+     * @param plotLabel the plot label
+     * @return the farm plot, or null if the label does not show a plot
+     */
+    private FarmPlot getFarmPlot(JLabel plotLabel) {
+        int plotIndex = farmView != null ? farmView.getPlotIndex(plotLabel) : -1;
+        return plotIndex >= 0 ? farmPlotStore.getPlot(plotIndex) : null;
     }
 
     private CropData getCropDataForCrop(String cropName) {
-        CropData cropData = Main.cropDataMap.get(cropName);
+        CropData cropData = cropRegistry.getCrop(cropName);
         if (cropData == null) {
             System.err.println("Error: No cropData found for crop: " + cropName);
         } else {
@@ -314,47 +276,100 @@ public class GameFrame extends JFrame {
     }
 
     private void addHarvestedCropToInventory(CropData cropData, int amount) {
-        String itemName = cropData.getCropName();
-        String itemIconPath = cropData.getCropImagePath();
-        for (int i = 0; i < amount; i++) {
-            Item item = new Item(itemName, itemIconPath, 1, cropData.getBaseExperience(), 1, 1);
-            inventory.addItem(item);
+        ItemDef cropItem = getCropItem(cropData);
+        if (cropItem != null) {
+            inventory.addItem(cropItem, amount);
+            FarmingGUI.showHarvestDialog(amount, cropData.getCropName());
+        }
+    }
+
+    private ItemDef getCropItem(CropData cropData) {
+        ItemDef cropItem = itemRegistry.getItem(cropData.getCropName());
+        if (cropItem == null) {
+            System.err.println("Error: No item defined for crop: " + cropData.getCropName());
+        }
+        return cropItem;
+    }
+
+    /**
+     * Harvests every fully grown plot on the farm. The plots are scanned once, the yield of each crop
+     * is added to the inventory as one stack and the farming experience is awarded in one gain.
+     * Crops that do not fit in the inventory are left in their plots. Plots are only cleared, and
+     * experience only given, once their crop is in the inventory.
+     */
+    public void harvestAllCrops() {
+        long now = System.currentTimeMillis();
+        Map<String, Integer> harvestedAmounts = new LinkedHashMap<>();
+        Map<String, CropData> harvestedCrops = new HashMap<>();
+        Map<String, List<Integer>> harvestedPlots = new HashMap<>();
+        Set<String> skippedCrops = new HashSet<>();
+        int newStacks = 0; // Crops the inventory holds none of yet, which each need a free slot
+
+        for (int plot = 0; plot < farmPlotStore.getPlotCount(); plot++) {
+            if (!farmPlotStore.isFullyGrown(plot, now)) {
+                continue;
+            }
+            String seedName = farmPlotStore.getSeedInfo(plot).getSeedName();
+            CropData cropData = cropRegistry.getCrop(farmPlotStore.getSeedId(plot));
+            if (cropData == null || skippedCrops.contains(seedName)) {
+                continue;
+            }
+            if (!harvestedAmounts.containsKey(cropData.getCropName())
+                    && inventory.getCountByName(cropData.getCropName()) == 0) {
+                if (inventory.getFreeStackCount() <= newStacks) {
+                    skippedCrops.add(seedName); // No room for another stack
+                    continue;
+                }
+                newStacks++;
+            }
+
+            int amount = calculateActualAmountHarvested(cropData.getBaseYield());
+            harvestedAmounts.merge(cropData.getCropName(), amount, Integer::sum);
+            harvestedCrops.put(cropData.getCropName(), cropData);
+            harvestedPlots.computeIfAbsent(cropData.getCropName(), name -> new ArrayList<>()).add(plot);
         }
-        FarmingGUI.showHarvestDialog(amount, itemName);
-    }
 
-    private int calculateFarmingExperienceGained(int baseExperience, int actualAmountHarvested) {
-        return baseExperience * actualAmountHarvested;
-    }
+        if (harvestedAmounts.isEmpty()) {
+            JOptionPane.showMessageDialog(this, skippedCrops.isEmpty() ? "No crops are ready to harvest." : "Inventory is full. Cannot harvest crops.");
+            return;
+        }
 
-    private FarmPlot getFarmPlotForCrop(String cropName) {
-        for (FarmPlot farmPlot : farmPlots) {
-            if (farmPlot.getCropName().equals(cropName)) {
-                return farmPlot;
+        int totalExperience = 0;
+        Iterator<Map.Entry<String, Integer>> iterator = harvestedAmounts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Integer> entry = iterator.next();
+            CropData cropData = harvestedCrops.get(entry.getKey());
+            ItemDef cropItem = getCropItem(cropData);
+            if (cropItem == null || !inventory.addItem(cropItem, entry.getValue())) {
+                // Not stored, so the crop stays in its plots and gives no experience
+                iterator.remove();
+                skippedCrops.add(entry.getKey());
+                continue;
+            }
+            for (int plot : harvestedPlots.get(entry.getKey())) {
+                farmPlotStore.clear(plot);
             }
+            totalExperience += calculateFarmingExperienceGained(cropData.getBaseExperience(), entry.getValue());
         }
-        return null;
-    }
-
-    public void updateFarmingLevelLabel(int farmingLevel) {
-        if (farmingLevelLabel != null) {
-            farmingLevelLabel.setText("Farming Level: " + farmingLevel);
-            farmingLevelLabel.repaint();
+        if (harvestedAmounts.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Inventory is full. Cannot harvest crops.");
+            return;
+        }
+        farmingManager.updateFarmingExperience(totalExperience);
+        if (farmView != null && farmView.getParent() != null) {
+            farmView.refreshChangedCells(now);
+            scheduleFarmRefresh();
         }
+        FarmingGUI.showHarvestAllDialog(harvestedAmounts, !skippedCrops.isEmpty());
     }
 
-    public void updateFarmingProgressBar(long experience, long maxExperience) {
-        if (farmingProgressBar != null) {
-            farmingProgressBar.setMaximum((int) maxExperience);
-            farmingProgressBar.setValue((int) experience);
-            farmingProgressBar.setString(experience + " / " + maxExperience);
-            farmingProgressBar.repaint();
-        }
+    private int calculateFarmingExperienceGained(int baseExperience, int actualAmountHarvested) {
+        return baseExperience * actualAmountHarvested;
     }
 
-    private void showPlantMenu(MouseEvent e, JLabel plotLabel) {
-        String plotName = plotLabel.getName();
-        if (plotName != null && farmPlotStates.containsKey(plotName) && !farmPlotStates.get(plotName).equals("/farmplot-transparent.png")) {
+    void showPlantMenu(MouseEvent e, JLabel plotLabel) {
+        FarmPlot farmPlot = getFarmPlot(plotLabel);
+        if (farmPlot == null || !farmPlot.isEmpty()) {
             // Plot is already occupied, do not show the menu
             System.out.println("Plot is already occupied, cannot plant a new seed.");
             return;
@@ -368,13 +383,13 @@ public class GameFrame extends JFrame {
 
     private void showSeedSelectionMenu(JLabel plotLabel) {
         Inventory inventory = getInventory();
-        List<Item> seeds = inventory.getItems().stream().filter(item -> item.getName().endsWith("Seed")).collect(Collectors.toList());
+        List<ItemStack> seeds = inventory.getItems().stream().filter(stack -> cropRegistry.getSeedId(stack.getName()) >= 0).collect(Collectors.toList());
         if (seeds.isEmpty()) {
             JOptionPane.showMessageDialog(this, "No seeds available to plant.");
             return;
         }
         JPopupMenu seedMenu = new JPopupMenu();
-        for (Item seed : seeds) {
+        for (ItemStack seed : seeds) {
             JMenuItem seedItem = new JMenuItem(seed.getName());
             seedItem.addActionListener(ev -> plantSeed(plotLabel, seed.getName()));
             seedMenu.add(seedItem);
@@ -382,243 +397,58 @@ public class GameFrame extends JFrame {
         seedMenu.show(plotLabel, plotLabel.getWidth() / 2, plotLabel.getHeight() / 2);
     }
 
-    class FarmPlotState {
-        String seedName;
-        int currentStage;
-        String imagePath;
-
-        public FarmPlotState(String seedName, int currentStage, String imagePath) {
-            this.seedName = seedName;
-            this.currentStage = currentStage;
-            this.imagePath = imagePath;
-        }
-    }
-
     private void plantSeed(JLabel plotLabel, String seedName) {
         System.out.println("----- Start planting seed -----");
         System.out.println("Attempting to plant seed: " + seedName);
 
-        String baseName = seedName.toLowerCase().replace(" seed", "Growing1");
-        String imagePath = "/" + baseName + ".png";
-        System.out.println("Image path constructed: " + imagePath);
-
-        try {
-            URL imageUrl = getClass().getResource(imagePath);
-            if (imageUrl == null) {
-                System.err.println("Error: Seed image URL is null for path: " + imagePath);
-                return;
-            }
-            System.out.println("Image URL: " + imageUrl);
-
-            ImageIcon seedIcon = new ImageIcon(imageUrl);
-            if (seedIcon.getImageLoadStatus() != MediaTracker.COMPLETE) {
-                System.err.println("Error: Seed image is not loaded correctly for path: " + imagePath);
-                return;
-            }
-            System.out.println("Seed image loaded successfully.");
-
-            // Decrement the count of the seed item in the inventory
-            Inventory inventory = getInventory();
-            Item seedItem = inventory.getItemByName(seedName);
-            if (seedItem != null) {
-                seedItem.decrementCount(1);
-                if (seedItem.getCount() == 0) {
-                    inventory.removeItem(seedItem, 0);
-                }
-                inventory.refreshInventoryPanel();
-            }
-
-            Image seedImage = seedIcon.getImage();
-            if (seedImage.getWidth(null) == -1 || seedImage.getHeight(null) == -1) {
-                System.err.println("Error: Seed image dimensions are invalid for path: " + imagePath);
-                return;
-            }
-            System.out.println("Seed image dimensions: " + seedImage.getWidth(null) + "x" + seedImage.getHeight(null));
-
-            ImageIcon farmPlotIcon = (ImageIcon) plotLabel.getIcon();
-            if (farmPlotIcon == null) {
-                System.err.println("Error: Farm plot image is null for plotLabel.");
-                return;
-            }
-            System.out.println("Farm plot image icon obtained.");
-
-            Image farmPlotImage = farmPlotIcon.getImage();
-            if (farmPlotImage.getWidth(null) == -1 || farmPlotImage.getHeight(null) == -1) {
-                System.err.println("Error: Farm plot image dimensions are invalid.");
-                return;
-            }
-            System.out.println("Farm plot image dimensions: " + farmPlotImage.getWidth(null) + "x" + farmPlotImage.getHeight(null));
-
-            int plotWidth = plotLabel.getWidth();
-            int plotHeight = plotLabel.getHeight();
-
-            BufferedImage combinedImage = new BufferedImage(plotWidth, plotHeight, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g = combinedImage.createGraphics();
-
-            System.out.println("Drawing farm plot image...");
-            g.drawImage(farmPlotImage, 0, 0, plotWidth, plotHeight, null);
-
-            int seedWidth, seedHeight;
-            double seedAspectRatio = (double) seedImage.getWidth(null) / seedImage.getHeight(null);
-            double plotAspectRatio = (double) plotWidth / plotHeight;
-
-            if (seedAspectRatio > plotAspectRatio) {
-                seedWidth = (int) (plotHeight * seedAspectRatio * 0.8); // Reduce the width by 20%
-                seedHeight = (int) (plotHeight * 0.8); // Reduce the height by 20%
-            } else {
-                seedHeight = (int) (plotWidth / seedAspectRatio * 0.8); // Reduce the height by 20%
-                seedWidth = (int) (plotWidth * 0.8); // Reduce the width by 20%
-            }
-
-            int seedX = (plotWidth - seedWidth) / 2;
-            int seedY = (plotHeight - seedHeight) / 2 - 10;
-            System.out.println("Calculated seed image position: " + seedX + ", " + seedY);
-            System.out.println("Scaled seed dimensions: " + seedWidth + "x" + seedHeight);
-
-            System.out.println("Drawing seed image...");
-            g.drawImage(seedImage, seedX, seedY, seedWidth, seedHeight, null);
-            g.dispose();
-
-            System.out.println("Combined image created with dimensions: " + combinedImage.getWidth() + "x" + combinedImage.getHeight());
-
-            plotLabel.setIcon(new ImageIcon(combinedImage));
-            plotLabel.revalidate();
-            plotLabel.repaint();
-
-            System.out.println("Seed image set on plotLabel and repainted.");
-            System.out.println("plotLabel bounds: " + plotLabel.getBounds());
-            System.out.println("plotLabel visibility: " + plotLabel.isVisible());
-
-            farmPlotStates.put(plotLabel.getName(), new FarmPlotState(seedName, 1, imagePath));
-            startGrowthTimer(plotLabel, seedName, 1, 5);
-
-        } catch (Exception exception) {
-            System.err.println("Exception while planting the seed!");
-            exception.printStackTrace();
+        FarmPlot farmPlot = getFarmPlot(plotLabel);
+        if (farmPlot == null || !farmPlot.isEmpty()) {
+            System.err.println("Error: Cannot plant in plot: " + plotLabel.getName());
+            return;
         }
-        System.out.println("----- End planting seed -----");
-    }
-
-    private void startGrowthTimer(JLabel plotLabel, String seedName, int currentStage, int maxStage) {
-        Timer existingTimer = growthTimers.get(plotLabel.getName());
-        if (existingTimer != null && existingTimer.isRunning()) {
-            System.out.println("Timer already running for plot: " + plotLabel.getName());
-            return; // Timer already running for this plot, no need to start a new one
+        SeedInfo seedInfo = cropRegistry.getSeed(seedName);
+        if (seedInfo == null) {
+            System.err.println("Error: Unknown seed: " + seedName);
+            return;
+        }
+        if (PlotSpriteCache.getSprite(seedInfo, 1, plotLabel.getWidth(), plotLabel.getHeight()) == null) {
+            System.err.println("Error: No plot image for seed: " + seedName);
+            return;
         }
+        farmPlot.plant(seedName);
 
-        System.out.println("Starting growth timer for plot: " + plotLabel.getName() + ", seed: " + seedName + ", current stage: " + currentStage);
-        Timer timer = new Timer(getGrowthTimeForStage(seedName, currentStage), new ActionListener() {
-            private int stage = currentStage;
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                stage++;
-                System.out.println("Timer tick for plot: " + plotLabel.getName() + ", seed: " + seedName + ", new stage: " + stage);
-                if (stage <= maxStage) {
-                    SwingUtilities.invokeLater(() -> {
-                        updatePlotImage(plotLabel, seedName, stage);
-                        farmPlotStates.put(plotLabel.getName(), new FarmPlotState(seedName, stage, ""));
-                    });
-                    if (stage == maxStage) {
-                        System.out.println(seedName + " has finished growing in plot: " + plotLabel.getName());
-                        growthTimers.remove(plotLabel.getName());
-                        ((Timer) e.getSource()).stop();
-                    }
-                } else {
-                    growthTimers.remove(plotLabel.getName());
-                    ((Timer) e.getSource()).stop();
-                }
-            }
-        });
-        timer.setRepeats(true);
-        timer.start();
-        growthTimers.put(plotLabel.getName(), timer);
-    }
+        // Decrement the count of the seed item in the inventory
+        Inventory inventory = getInventory();
+        inventory.removeCount(itemRegistry.getItemId(seedName), 1);
 
-    private int getGrowthTimeForStage(String seedName, int stage) {
-        SeedInfo seedInfo = seedInfoMap.get(seedName);
-        if (seedInfo != null && stage <= seedInfo.getMaxStage() && stage < seedInfo.getGrowthTimes().size()) {
-            return seedInfo.getGrowthTimes().get(stage - 1);
-        }
-        return 300000; // Default to 30 seconds.
+        farmView.refreshPlot(farmPlot.getIndex());
+        scheduleFarmRefresh();
+        System.out.println("----- End planting seed -----");
     }
 
-    private void restartAllGrowthTimers() {
-        for (Map.Entry<String, FarmPlotState> entry : farmPlotStates.entrySet()) {
-            String plotName = entry.getKey();
-            FarmPlotState state = entry.getValue();
-            JLabel plotLabel = findPlotLabelByName(plotName);
-            if (plotLabel != null) {
-                System.out.println("Restarting timer for plot: " + plotName + ", state: " + state);
-                startGrowthTimer(plotLabel, state.seedName, state.currentStage, getMaxGrowthStageForCrop(state.seedName));
-            } else {
-                System.err.println("Error: No plotLabel found for plotName: " + plotName);
-            }
+    /**
+     * Schedules the farm refresh for when the next crop on the shown farm page changes stage.
+     * Nothing is scheduled when the farm is hidden or no crop on the page is still growing.
+     */
+    void scheduleFarmRefresh() {
+        if (farmRefreshTask != null) {
+            farmRefreshTask.cancel();
+            farmRefreshTask = null;
         }
-    }
-
-    private void updatePlotImage(JLabel plotLabel, String seedName, int stage) {
-        try {
-            System.out.println("---- Start updatePlotImage Method ----");
-            System.out.println("Updating plot image for stage: " + stage);
-
-            String baseName = seedName.toLowerCase().replace(" seed", "Growing" + stage);
-            String imagePath = "/" + baseName + ".png";
-
-            URL imageUrl = getClass().getResource(imagePath);
-            if (imageUrl == null) {
-                System.err.println("Error: Seed image URL is null for path: " + imagePath);
-                return;
-            }
-
-            ImageIcon seedIcon = new ImageIcon(imageUrl);
-            if (seedIcon.getImageLoadStatus() != MediaTracker.COMPLETE) {
-                System.err.println("Error: Seed image icon is not loaded for path: " + imagePath);
-                return;
-            }
-
-            Image seedImage = seedIcon.getImage();
-            ImageIcon farmPlotIcon = new ImageIcon(getClass().getResource("/farmplot-transparent.png"));
-            Image farmPlotImage = farmPlotIcon.getImage();
-
-            int plotWidth = plotLabel.getWidth();
-            int plotHeight = plotLabel.getHeight();
-            BufferedImage combinedImage = new BufferedImage(plotWidth, plotHeight, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g = combinedImage.createGraphics();
-            g.drawImage(farmPlotImage, 0, 0, plotWidth, plotHeight, null);
-
-            int seedWidth, seedHeight;
-            double seedAspectRatio = (double) seedImage.getWidth(null) / seedImage.getHeight(null);
-            double plotAspectRatio = (double) plotWidth / plotHeight;
-            if (seedAspectRatio > plotAspectRatio) {
-                seedWidth = (int) (plotHeight * seedAspectRatio * 0.8);
-                seedHeight = (int) (plotHeight * 0.8);
-            } else {
-                seedHeight = (int) (plotWidth / seedAspectRatio * 0.8);
-                seedWidth = (int) (plotWidth * 0.8);
-            }
-
-            int seedX = (plotWidth - seedWidth) / 2;
-            int seedY = ((plotHeight - seedHeight) / 2 - 5 * (stage - 3)) - 15;
-            g.drawImage(seedImage, seedX, seedY, seedWidth, seedHeight, null);
-            g.dispose();
-
-            plotLabel.setIcon(new ImageIcon(combinedImage));
-            plotLabel.revalidate();
-            plotLabel.repaint();
-
-            System.out.println("---- End updatePlotImage ----");
-        } catch (Exception exception) {
-            System.err.println("Exception during growth stage transition!");
-            exception.printStackTrace();
+        if (farmView == null || farmView.getParent() == null) {
+            return;
+        }
+        long nextChange = farmView.getTimeUntilNextChange(System.currentTimeMillis());
+        if (nextChange >= 0) {
+            farmRefreshTask = scheduler.schedule(nextChange, () -> {
+                farmView.refreshChangedCells(System.currentTimeMillis());
+                scheduleFarmRefresh();
+            });
         }
-    }
-
-    private String generateImagePathForStage(String seedName, int stage) {
-        return "/" + seedName.toLowerCase().replace(" seed", "Growing" + stage) + ".png";
     }
 
     private int maxStageForSeed(String seedName) {
-        SeedInfo seedInfo = seedInfoMap.get(seedName);
+        SeedInfo seedInfo = cropRegistry.getSeed(seedName);
         if (seedInfo != null) {
             return seedInfo.getMaxStage();
         }
@@ -626,8 +456,8 @@ public class GameFrame extends JFrame {
     }
 
     private void showSeedSelectionMenu(MouseEvent e, JLabel plotLabel) {
-        String plotName = plotLabel.getName();
-        if (plotName != null && farmPlotStates.containsKey(plotName) && !farmPlotStates.get(plotName).equals("/farmplot-transparent.png")) {
+        FarmPlot farmPlot = getFarmPlot(plotLabel);
+        if (farmPlot == null || !farmPlot.isEmpty()) {
             // Plot is already occupied, do not show the seed selection menu
             System.out.println("Plot is already occupied, cannot plant a new seed.");
             return;
@@ -635,8 +465,8 @@ public class GameFrame extends JFrame {
 
         System.out.println("Showing seed selection menu...");
         JPopupMenu seedMenu = new JPopupMenu();
-        System.out.println("Inventory seeds:  " + inventory.getItems().stream().map(Item::getName).collect(Collectors.toList()));
-        for (Item seed : inventory.getItems()) {
+        System.out.println("Inventory seeds:  " + inventory.getItems().stream().map(ItemStack::getName).collect(Collectors.toList()));
+        for (ItemStack seed : inventory.getItems()) {
             if (seed.getName().toLowerCase().endsWith("seed")) {
                 JMenuItem seedItem = new JMenuItem(seed.getName());
                 seedItem.addActionListener(ev -> plantSeed(plotLabel, seed.getName()));
@@ -652,89 +482,57 @@ public class GameFrame extends JFrame {
             return;
         }
 
-        JPanel farmPanel = new JPanel();
-        farmPanel.setLayout(null);
-        farmPanel.setBounds(0, 0, sceneImagePanel.getWidth(), sceneImagePanel.getHeight());
-        farmPanel.setOpaque(false);
-
-        int plotsPerPage = 6;
-        int totalPages = (int) Math.ceil(farmPlotAmount / (double) plotsPerPage);
-        int startPlot = currentFarmPage * plotsPerPage;
-        int endPlot = Math.min(startPlot + plotsPerPage, farmPlotAmount);
-
-        int gridWidth = 3;
-        int gridHeight = 2;
-        int plotSize = 90;
-        int horizontalGap = 50;
-        int xOffset = (sceneImagePanel.getWidth() - (gridWidth * plotSize + (gridWidth - 1) * horizontalGap)) / 2;
-        int yOffset = sceneImagePanel.getHeight() - gridHeight * plotSize - 10;
-
-        for (int i = startPlot; i < endPlot; i++) {
-            int plotIndex = i - startPlot;
-            int x = xOffset + (plotIndex % gridWidth) * (plotSize + horizontalGap);
-            int y = yOffset + (plotIndex / gridWidth) * plotSize;
-            JLabel plotLabel = new JLabel();
-            plotLabel.setBounds(x, y, plotSize, plotSize);
-            plotLabel.setOpaque(false);
-            plotLabel.setName("plot_" + (i + 1));
-            System.out.println("Creating plotLabel with name: " + plotLabel.getName());
-
-            if (farmPlotStates.containsKey(plotLabel.getName())) {
-                FarmPlotState state = farmPlotStates.get(plotLabel.getName());
-                updatePlotImage(plotLabel, state.seedName, state.currentStage);
-            } else {
-                ImageIcon plotIcon = new ImageIcon(getClass().getResource("/farmplot-transparent.png"));
-                Image scaledImage = plotIcon.getImage().getScaledInstance(plotSize, plotSize, Image.SCALE_SMOOTH);
-                plotLabel.setIcon(new ImageIcon(scaledImage));
-            }
-
-            plotLabel.addMouseListener(new MouseAdapter() {
-                @Override
-                public void mouseClicked(MouseEvent e) {
-                    if (SwingUtilities.isRightMouseButton(e)) {
-                        showPlantMenu(e, plotLabel);
-                    } else if (SwingUtilities.isLeftMouseButton(e)) {
-                        harvestCrop(plotLabel);
-                    }
-                }
-            });
-
-            farmPanel.add(plotLabel);
-
-            System.out.println("Farm plot: " + (i + 1) + " drawn at x: " + x + ", y: " + y);
-            System.out.println("plotLabel bounds: " + plotLabel.getBounds());
-            System.out.println("plotLabel visibility: " + plotLabel.isVisible());
-        }
-
-        if (currentFarmPage > 0) {
-            JButton backButton = new JButton("<--");
-            backButton.setBounds(10, sceneImagePanel.getHeight() - 40, 50, 30);
-            backButton.addActionListener(e -> {
-                currentFarmPage--;
-                drawFarmPlots(farmPlotAmount);
-            });
-            farmPanel.add(backButton);
-        }
-
-        if (currentFarmPage < totalPages - 1) {
-            JButton nextButton = new JButton("-->");
-            nextButton.setBounds(sceneImagePanel.getWidth() - 60, sceneImagePanel.getHeight() - 40, 50, 30);
-            nextButton.addActionListener(e -> {
-                currentFarmPage++;
-                drawFarmPlots(farmPlotAmount);
-            });
-            farmPanel.add(nextButton);
+        if (farmView == null) {
+            farmView = new FarmView(this, farmPlotStore);
         }
+        farmView.layoutFor(sceneImagePanel.getWidth(), sceneImagePanel.getHeight());
 
         sceneImagePanel.removeAll();
         sceneImagePanel.setLayout(null);
-        sceneImagePanel.add(farmPanel);
+        sceneImagePanel.add(farmView);
+        farmView.showPage(farmView.getPage());
         sceneImagePanel.revalidate();
         sceneImagePanel.repaint();
 
-        System.out.println("Farm plots drawn. FarmPanel bounds: " + farmPanel.getBounds());
-        System.out.println("sceneImagePanel bounds: " + sceneImagePanel.getBounds());
-        System.out.println("sceneImagePanel visibility: " + sceneImagePanel.isVisible());
+        System.out.println("Farm plots drawn. FarmView bounds: " + farmView.getBounds());
+    }
+
+    /**
+     * Catches the game up on time that passed while it was not running: crops grow and the player
+     * forages idly in the current scene. The game does not save its state yet, so nothing calls this
+     * on startup; a save system would pass the time since the last save.
+     *
+     * @param elapsedMillis the time that passed in milliseconds
+     * @return a summary of the progress made
+     */
+    public OfflineProgressEngine.OfflineProgress applyOfflineProgress(long elapsedMillis) {
+        OfflineProgressEngine engine = new OfflineProgressEngine(farmPlotStore, foragingManager.getForagingEngine());
+        OfflineProgressEngine.OfflineProgress progress = engine.catchUp(elapsedMillis, currentScene, MAX_OFFLINE_FORAGE_ROLLS);
+
+        // Only the items that fit in the inventory give experience, as when foraging live
+        int itemsKept = 0;
+        long experienceGained = 0;
+        for (Map.Entry<ItemDef, Integer> entry : progress.getForagedItems().entrySet()) {
+            ItemDef item = entry.getKey();
+            if (inventory.addItem(item, entry.getValue())) {
+                itemsKept += entry.getValue();
+                experienceGained += (long) item.getExperience() * entry.getValue();
+                revealCollectedItem(item);
+            }
+        }
+        if (experienceGained > 0) {
+            foragingManager.getForagingEngine().gainExperience(experienceGained);
+        }
+
+        if (farmView != null && farmView.getParent() != null) {
+            farmView.refreshChangedCells(System.currentTimeMillis());
+            scheduleFarmRefresh();
+        }
+
+        JOptionPane.showMessageDialog(this, "While you were away:\n"
+                + progress.getPlotsReady() + " crops are ready to harvest.\n"
+                + "You foraged " + itemsKept + " items and gained " + experienceGained + " foraging experience.");
+        return progress;
     }
 
     public void moveAction() {
@@ -784,11 +582,6 @@ public class GameFrame extends JFrame {
                 JOptionPane.showMessageDialog(this, "Scene not found: " + nextSceneName);
             }
         }
-
-        // Debug: Log the state of timers
-        for (Map.Entry<String, Timer> entry : growthTimers.entrySet()) {
-            System.out.println("Timer state for plot: " + entry.getKey() + ", running: " + entry.getValue().isRunning());
-        }
     }
 
 
@@ -980,16 +773,29 @@ public class GameFrame extends JFrame {
         updateSelectionBox(mainButtons.stream().filter(Component::isVisible).sorted(Comparator.comparingInt(b -> b.getLocation().x)).collect(Collectors.toList()));
     }
 
-    private void preloadImages() {
-        preloadedImages = new HashMap<>();
+    /**
+     * Scales the icon and silhouette of every item in a loot table once, in parallel. Items that are
+     * in several scenes share the same icons in each scene's collections panel.
+     */
+    private void preloadCollectionIcons() {
+        long startTime = System.nanoTime();
+        collectionIcons = new ImageIcon[itemRegistry.size()];
+        collectionShadows = new ImageIcon[itemRegistry.size()];
+        BitSet lootItems = new BitSet(itemRegistry.size());
         for (Scene scene : scenes.values()) {
-            for (Item item : scene.getLootTable()) {
-                if (!preloadedImages.containsKey(item.getName())) {
-                    ImageIcon originalIcon = new ImageIcon(getClass().getResource(item.getIconPath()));
-                    preloadedImages.put(item.getName(), originalIcon);
-                }
+            for (ItemDef item : scene.getLootTable()) {
+                lootItems.set(item.getId());
             }
         }
+        // Each item writes only its own array slots, and the stream finishes before the arrays are read
+        lootItems.stream().parallel().forEach(itemId -> {
+            ImageIcon icon = IconCache.getIcon(itemRegistry.getItem(itemId).getIconPath(), COLLECTION_ICON_SIZE, COLLECTION_ICON_SIZE);
+            if (icon != null) {
+                collectionIcons[itemId] = icon;
+                collectionShadows[itemId] = new ImageIcon(createBlackShadowImage(icon.getImage()));
+            }
+        });
+        System.out.println("Collections icons for " + lootItems.cardinality() + " items scaled in " + (System.nanoTime() - startTime) / 1_000_000 + " ms.");
     }
 
     public BankWindow getBankWindow() {
@@ -1000,28 +806,6 @@ public class GameFrame extends JFrame {
         inventory.refreshInventoryPanel();
     }
 
-    public void updateForagingLevelLabel(int foragingLevel) {
-        if (foragingLevelLabel != null) {
-            foragingLevelLabel.setText("Foraging Level: " + foragingLevel);
-            foragingLevelLabel.repaint(); // Ensure the label is repainted immediately
-        }
-    }
-
-    public JProgressBar getForagingProgressBar() {
-        return foragingProgressBar;
-    }
-
-    public void updateForagingProgressBar(long experience, long maxExperience) {
-        if (foragingProgressBar != null) {
-            foragingProgressBar.setMaximum((int) maxExperience);
-            foragingProgressBar.setValue((int) experience);
-            String displayText = showPercentage ? String.format("%.2f%%", (double) experience / maxExperience * 100) :
-                    experience + " / " + maxExperience;
-            foragingProgressBar.setString(displayText);
-            foragingProgressBar.repaint(); // Ensure the progress bar is repainted immediately
-        }
-    }
-
     public Scene getCurrentScene() {
         return currentScene;
     }
@@ -1043,24 +827,23 @@ public class GameFrame extends JFrame {
 
         if ("farm".equals(scene.getName())) {
             drawFarmPlots(farmPlotAmount);
-            refreshFarmPlots();  // Refresh farm plots to reflect their current growth stages
-            restartAllGrowthTimers();  // Restart growth timers for farm plots
         }
 
         updateButtonStates();
         updateCollectionsPanel(currentScene);
         validate();
         repaint();
-
-        // Debug: Log the state of timers
-        for (Map.Entry<String, Timer> entry : growthTimers.entrySet()) {
-            System.out.println("Timer state for plot: " + entry.getKey() + ", running: " + entry.getValue().isRunning());
-        }
     }
 
     public void clearFarmElements() {
         System.out.println("Clearing farm elements...");
 
+        // Crops keep growing from their planting time, so nothing needs to run while the farm is hidden
+        if (farmRefreshTask != null) {
+            farmRefreshTask.cancel();
+            farmRefreshTask = null;
+        }
+
         if (sceneImagePanel != null) {
             sceneImagePanel.removeAll();
             sceneImagePanel.revalidate();
@@ -1091,39 +874,6 @@ public class GameFrame extends JFrame {
         return scenes;
     }
 
-    private void refreshFarmPlots() {
-        for (Map.Entry<String, FarmPlotState> entry : farmPlotStates.entrySet()) {
-            String plotName = entry.getKey();
-            FarmPlotState state = entry.getValue();
-            JLabel plotLabel = findPlotLabelByName(plotName);
-            System.out.println("Refreshing plot: " + plotName + ", state: " + state);
-            if (plotLabel != null) {
-                updatePlotImage(plotLabel, state.seedName, state.currentStage);
-            } else {
-                System.err.println("Error: No plotLabel found for plotName: " + plotName);
-            }
-        }
-    }
-
-    private JLabel findPlotLabelByName(String plotName) {
-        for (Component component : sceneImagePanel.getComponents()) {
-            if (component instanceof JPanel) {
-                JPanel farmPanel = (JPanel) component;
-                for (Component comp : farmPanel.getComponents()) {
-                    if (comp instanceof JLabel) {
-                        JLabel label = (JLabel) comp;
-                        if (plotName.equals(label.getName())) {
-                            System.out.println("Found plotLabel for plotName: " + plotName);
-                            return label;
-                        }
-                    }
-                }
-            }
-        }
-        System.err.println("Error: No plotLabel found for plotName: " + plotName);
-        return null;
-    }
-
 
 
 
@@ -1142,6 +892,24 @@ public class GameFrame extends JFrame {
 
     public void setSceneImagePanel(BackgroundPanel sceneImagePanel) {
         this.sceneImagePanel = sceneImagePanel;
+        prefetchAdjacentBackgrounds();
+    }
+
+    /**
+     * Scales the backgrounds of the scenes next to the current one in the background, so moving there is instant.
+     */
+    private void prefetchAdjacentBackgrounds() {
+        if (sceneImagePanel == null || currentScene == null) {
+            return;
+        }
+        List<String> imagePaths = new ArrayList<>();
+        for (String sceneName : currentScene.getAdjacentScenes()) {
+            Scene adjacentScene = scenes.get(sceneName);
+            if (adjacentScene != null) {
+                imagePaths.add(adjacentScene.getImagePath());
+            }
+        }
+        sceneImagePanel.prefetch(imagePaths);
     }
 
     public void setSceneDescription(JLabel sceneDescription) {
@@ -1164,14 +932,6 @@ public class GameFrame extends JFrame {
         this.collectionsScrollPane = collectionsScrollPane;
     }
 
-    public void setForagingLevelLabel(JLabel foragingLevelLabel) {
-        this.foragingLevelLabel = foragingLevelLabel;
-    }
-
-    public void setForagingProgressBar(JProgressBar foragingProgressBar) {
-        this.foragingProgressBar = foragingProgressBar;
-    }
-
     public void setTabbedPane(JTabbedPane tabbedPane) {
         this.tabbedPane = tabbedPane;
     }
@@ -1188,6 +948,18 @@ public class GameFrame extends JFrame {
         return foragingManager;
     }
 
+    public GameScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public EffectsLayer getEffectsLayer() {
+        return effectsLayer;
+    }
+
+    public SkillRegistry getSkillRegistry() {
+        return skillRegistry;
+    }
+
     public boolean getBoolShowPercentage() {
         return showPercentage;
     }
@@ -1203,45 +975,29 @@ public class GameFrame extends JFrame {
         SwingUtilities.invokeLater(() -> updateSelectionBox(mainButtons.stream().filter(Component::isVisible).sorted(Comparator.comparingInt(b -> b.getLocation().x)).collect(Collectors.toList())));
     }
 
-    public void revealCollectedItem(Item item) {
-        discoveredItems.add(item.getName());
-        for (Scene scene : scenes.values()) {
-            JPanel panel = collectionsPanels.get(scene.getDescription());
-            for (Component innerComp : panel.getComponents()) {
-                if (innerComp instanceof JPanel) {
-                    JPanel itemPanel = (JPanel) innerComp;
-                    for (Component labelComp : itemPanel.getComponents()) {
-                        if (labelComp instanceof JLabel) {
-                            JLabel label = (JLabel) labelComp;
-                            if (label.getName() != null && label.getName().equals(item.getName())) {
-                                ImageIcon revealedIcon = getPreloadedImage(item.getName());
-                                Image scaledImage = revealedIcon.getImage().getScaledInstance(70, 70, Image.SCALE_SMOOTH);
-                                label.setIcon(new ImageIcon(scaledImage));
-                                label.setText("");
-                                itemPanel.revalidate();
-                                itemPanel.repaint();
-                            }
-                        }
-                    }
-                }
-            }
+    public void revealCollectedItem(ItemDef item) {
+        if (discoveredItems.get(item.getId())) {
+            return; // Already revealed when it was first collected
+        }
+        discoveredItems.set(item.getId());
+        for (JLabel label : collectionLabels.getOrDefault(item.getId(), Collections.emptyList())) {
+            label.setIcon(collectionIcons[item.getId()]);
+            label.setText("");
+            label.repaint();
         }
     }
 
-    public JPanel createItemShadowPanel(Item item) {
+    public JPanel createItemShadowPanel(ItemDef item) {
         JPanel itemPanel = new JPanel(new BorderLayout());
         itemPanel.setBorder(BorderFactory.createLineBorder(Color.BLACK));
-        itemPanel.setPreferredSize(new Dimension(70, 70));
+        itemPanel.setPreferredSize(new Dimension(COLLECTION_ICON_SIZE, COLLECTION_ICON_SIZE));
 
-        ImageIcon originalIcon = getPreloadedImage(item.getName());
-        Image shadowImage = createBlackShadowImage(originalIcon.getImage());
-        ImageIcon shadowIcon = new ImageIcon(shadowImage.getScaledInstance(70, 70, Image.SCALE_SMOOTH));
-
-        JLabel iconLabel = new JLabel(shadowIcon, JLabel.CENTER);
+        JLabel iconLabel = new JLabel(collectionShadows[item.getId()], JLabel.CENTER);
         iconLabel.setName(item.getName());
+        collectionLabels.computeIfAbsent(item.getId(), id -> new ArrayList<>()).add(iconLabel);
 
-        if (discoveredItems.contains(item.getName())) {
-            iconLabel.setIcon(new ImageIcon(originalIcon.getImage().getScaledInstance(70, 70, Image.SCALE_SMOOTH)));
+        if (discoveredItems.get(item.getId())) {
+            iconLabel.setIcon(collectionIcons[item.getId()]);
             iconLabel.setText("");
         }
 
@@ -1254,7 +1010,7 @@ public class GameFrame extends JFrame {
     }
 
     private Image createBlackShadowImage(Image originalImage) {
-        BufferedImage blackShadowImage = new BufferedImage(originalImage.getWidth(null), originalImage.getHeight(null), BufferedImage.TYPE_INT_ARGB);
+        BufferedImage blackShadowImage = IconCache.createCompatibleImage(originalImage.getWidth(null), originalImage.getHeight(null));
         Graphics2D graphics2D = blackShadowImage.createGraphics();
         graphics2D.drawImage(originalImage, 0, 0, null);
         graphics2D.setComposite(AlphaComposite.SrcIn);
@@ -1288,12 +1044,17 @@ public class GameFrame extends JFrame {
         }
     }
 
-    public ImageIcon getPreloadedImage(String itemName) {
-        return preloadedImages.getOrDefault(itemName, null);
+    public ItemRegistry getItemRegistry() {
+        return itemRegistry;
     }
 
     public void setFarmPlotAmount(int farmPlotAmount) {
         this.farmPlotAmount = farmPlotAmount;
+        if (farmPlotStore == null) {
+            farmPlotStore = new FarmPlotStore(cropRegistry, farmPlotAmount);
+        } else {
+            farmPlotStore.setPlotCount(farmPlotAmount);
+        }
         updateFarmButtonVisibility(); // Ensure the farm button visibility is updated
     }
 
@@ -1320,6 +1081,7 @@ public class GameFrame extends JFrame {
     public void updateScene() {
         if (sceneImagePanel != null && currentScene != null) {
             sceneImagePanel.setBackgroundImage(currentScene.getImagePath());
+            prefetchAdjacentBackgrounds();
         }
         if (sceneDescription != null && currentScene != null) {
             sceneDescription.setText(currentScene.getDescription());
@@ -1356,50 +1118,39 @@ public class GameFrame extends JFrame {
 
     public void showLevelUpMessage(int newLevel) {
         LevelUpPanel levelUpPanel = new LevelUpPanel("Congratulations! You reached level " + newLevel + "!");
-        levelUpPanel.setSize(400, 100);
+        int panelWidth = 400;
+        int panelHeight = 100;
+        int centerX = (getWidth() - panelWidth) / 2 - 210;
+        int centerY = (getHeight() - panelHeight) / 2 - 65;
 
-        int centerX = (getWidth() - levelUpPanel.getWidth()) / 2 - 210;
-        int centerY = (getHeight() - levelUpPanel.getHeight()) / 2 - 65;
-        levelUpPanel.setLocation(centerX, centerY);
+        // Fade in for a second, then fade out for a second
+        effectsLayer.addEffect(new EffectsLayer.Effect() {
+            private int age = 0;
 
-        layeredPane.add(levelUpPanel, JLayeredPane.POPUP_LAYER);
+            @Override
+            public boolean step(int stepMillis) {
+                age += stepMillis;
+                return age < 2000;
+            }
 
-        Timer fadeTimer = new Timer(50, new ActionListener() {
-            private float opacity = 0.0f;
+            @Override
+            public void paint(Graphics2D g) {
+                float opacity = age < 1000 ? age / 1000f : (2000 - age) / 1000f;
+                g.clipRect(centerX, centerY, panelWidth, panelHeight);
+                g.translate(centerX, centerY);
+                levelUpPanel.setOpacity(opacity);
+                levelUpPanel.paintContent(g, panelWidth, panelHeight);
+            }
 
             @Override
-            public void actionPerformed(ActionEvent e) {
-                if (opacity < 1.0f) {
-                    opacity += 0.05f;
-                    levelUpPanel.setOpacity(opacity);
-                    levelUpPanel.repaint();
-                } else {
-                    ((Timer) e.getSource()).stop();
-                    Timer fadeOutTimer = new Timer(50, new ActionListener() {
-                        @Override
-                        public void actionPerformed(ActionEvent e) {
-                            if (opacity > 0.0f) {
-                                opacity -= 0.05f;
-                                levelUpPanel.setOpacity(opacity);
-                                levelUpPanel.repaint();
-                            } else {
-                                ((Timer) e.getSource()).stop();
-                                layeredPane.remove(levelUpPanel);
-                                layeredPane.repaint();
-                            }
-                        }
-                    });
-                    fadeOutTimer.start();
-                }
+            public Rectangle getBounds() {
+                return new Rectangle(centerX, centerY, panelWidth, panelHeight);
             }
         });
-        fadeTimer.start();
     }
 
-    public void addForagedItemToInventory(Item foragedItem) {
-        if (inventory.addItem(foragedItem)) {
-            refreshInventoryPanel();
-        } else {
+    public void addForagedItemToInventory(ItemDef foragedItem) {
+        if (!inventory.addItem(foragedItem, 1)) {
             JOptionPane.showMessageDialog(this, "Inventory is full. Cannot add foraged item.");
         }
     }
@@ -0,0 +1,228 @@
+import javax.swing.*;
+import java.util.function.Consumer;
+
+/**
+ * GameScheduler runs all of the game's delayed and repeating work, such as the foraging delay,
+ * animations, fades and the farm refresh, from a single clock.
+ * Tasks are kept in a hashed timing wheel: a ring of buckets, one per tick, where a task waits in
+ * the bucket of its deadline along with the number of full turns of the wheel still to go. Scheduling
+ * and cancelling are constant time, and one Swing timer drives the wheel only while tasks are pending,
+ * so every task runs on the event dispatch thread.
+ */
+public class GameScheduler {
+    private static final int TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 512; // Must be a power of two; one turn of the wheel is about 5 seconds
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Task[] buckets = new Task[WHEEL_SIZE]; // Head of each bucket's linked list
+    private final Timer clock;
+    private long currentTick = 0;
+    private long lastTickNanos;
+    private int pendingTasks = 0;
+    private boolean advancing = false; // True while advance is running due tasks, which may schedule more
+
+    public GameScheduler() {
+        this.clock = new Timer(TICK_MILLIS, e -> advance());
+        this.clock.setCoalesce(true);
+    }
+
+    /**
+     * Runs an action once after a delay.
+     *
+     * @param delayMillis the delay in milliseconds
+     * @param action      the action to run on the event dispatch thread
+     * @return the task, which can be cancelled
+     */
+    public Task schedule(long delayMillis, Runnable action) {
+        return add(new Task(task -> action.run(), 0), delayMillis);
+    }
+
+    /**
+     * Runs an action repeatedly until it is cancelled. The action is passed its own task so it can
+     * cancel itself, for example when an animation ends.
+     *
+     * @param delayMillis  the delay before the first run in milliseconds
+     * @param periodMillis the time between runs in milliseconds
+     * @param action       the action to run on the event dispatch thread
+     * @return the task, which can be cancelled
+     */
+    public Task scheduleRepeating(long delayMillis, long periodMillis, Consumer<Task> action) {
+        return add(new Task(action, Math.max(1, toTicks(periodMillis))), delayMillis);
+    }
+
+    /**
+     * Returns the number of tasks waiting to run.
+     *
+     * @return the number of pending tasks
+     */
+    public synchronized int getPendingTaskCount() {
+        return pendingTasks;
+    }
+
+    private Task add(Task task, long delayMillis) {
+        synchronized (this) {
+            if (pendingTasks == 0 && !advancing) {
+                // The clock was idle, so start counting ticks from now. While the wheel is catching up,
+                // an empty wheel is not idle and the tick count must carry on from the last advance
+                lastTickNanos = System.nanoTime();
+            }
+            insert(task, Math.max(1, toTicks(delayMillis)));
+        }
+        if (!clock.isRunning()) {
+            clock.start();
+        }
+        return task;
+    }
+
+    private void insert(Task task, long delayTicks) {
+        long deadline = currentTick + delayTicks;
+        int index = (int) (deadline & WHEEL_MASK);
+        task.rounds = (delayTicks - 1) / WHEEL_SIZE;
+        task.bucket = index;
+        task.prev = null;
+        task.next = buckets[index];
+        if (task.next != null) {
+            task.next.prev = task;
+        }
+        buckets[index] = task;
+        pendingTasks++;
+    }
+
+    private void unlink(Task task) {
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            buckets[task.bucket] = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.prev = null;
+        task.next = null;
+        task.bucket = -1;
+        pendingTasks--;
+    }
+
+    private synchronized void cancel(Task task) {
+        task.cancelled = true;
+        if (task.bucket >= 0) {
+            unlink(task);
+        }
+    }
+
+    /**
+     * Moves the wheel forward by the ticks that have passed since the last advance, running the due tasks.
+     * If the Swing timer fired late, the missed ticks are caught up in order.
+     */
+    private void advance() {
+        long now = System.nanoTime();
+        long elapsedTicks;
+        synchronized (this) {
+            elapsedTicks = (now - lastTickNanos) / (TICK_MILLIS * 1_000_000L);
+            lastTickNanos += elapsedTicks * TICK_MILLIS * 1_000_000L;
+            advancing = true;
+        }
+        try {
+            for (long i = 0; i < elapsedTicks; i++) {
+                Task due = collectDueTasks();
+                while (due != null) {
+                    Task next = due.next;
+                    due.next = null;
+                    run(due);
+                    due = next;
+                }
+            }
+        } finally {
+            synchronized (this) {
+                advancing = false;
+            }
+        }
+        synchronized (this) {
+            if (pendingTasks == 0) {
+                clock.stop();
+            }
+        }
+    }
+
+    /**
+     * Advances one tick and takes the tasks that are due out of the current bucket.
+     *
+     * @return the due tasks as a linked list, or null if none are due
+     */
+    private synchronized Task collectDueTasks() {
+        currentTick++;
+        int index = (int) (currentTick & WHEEL_MASK);
+        Task due = null;
+        Task task = buckets[index];
+        while (task != null) {
+            Task next = task.next;
+            if (task.rounds > 0) {
+                task.rounds--;
+            } else {
+                unlink(task);
+                task.next = due;
+                due = task;
+            }
+            task = next;
+        }
+        return due;
+    }
+
+    private void run(Task task) {
+        if (task.cancelled) {
+            return;
+        }
+        try {
+            task.action.accept(task);
+        } catch (RuntimeException e) {
+            System.err.println("Error: Scheduled task failed.");
+            e.printStackTrace();
+        }
+        synchronized (this) {
+            if (task.periodTicks > 0 && !task.cancelled) {
+                insert(task, task.periodTicks);
+            }
+        }
+    }
+
+    private static long toTicks(long millis) {
+        return (millis + TICK_MILLIS - 1) / TICK_MILLIS;
+    }
+
+    /**
+     * A scheduled action. Cancelling it stops any further runs.
+     */
+    public class Task {
+        private final Consumer<Task> action;
+        private final long periodTicks; // 0 for a task that runs once
+        private long rounds; // Full turns of the wheel left before the task is due
+        private int bucket = -1; // The bucket holding the task, or -1 if it is not waiting
+        private Task prev;
+        private Task next;
+        private volatile boolean cancelled = false;
+
+        private Task(Consumer<Task> action, long periodTicks) {
+            this.action = action;
+            this.periodTicks = periodTicks;
+        }
+
+        public void cancel() {
+            GameScheduler.this.cancel(this);
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Returns whether the task is still waiting to run.
+         *
+         * @return true if the task will run again
+         */
+        public boolean isPending() {
+            synchronized (GameScheduler.this) {
+                return bucket >= 0;
+            }
+        }
+    }
+}
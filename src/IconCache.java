@@ -0,0 +1,255 @@
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * IconCache is a shared cache of decoded and pre-scaled icons, keyed by icon path and size.
+ * Icons are stored as display-compatible images so drawing them is a plain copy. The cache is
+ * bounded by the total number of pixels it holds, and the least recently used icons are evicted
+ * first. Full-size images have a small budget of their own and are only kept when asked for at
+ * their original size, so a few full-size source images cannot crowd out hundreds of small scaled ones.
+ */
+public class IconCache {
+    // 16 million ARGB pixels is 64 MB, enough for every scaled icon the game shows
+    private static final Pool SCALED = new Pool(16L * 1024 * 1024);
+    // 4 million pixels holds a few full-size sources for the sprites that are rendered from them
+    private static final Pool ORIGINALS = new Pool(4L * 1024 * 1024);
+
+    private static final AtomicLong decodeCount = new AtomicLong();
+
+    private IconCache() {
+    }
+
+    /**
+     * Returns the icon at the specified path at its original size.
+     *
+     * @param iconPath the classpath path of the icon
+     * @return the icon, or null if the resource does not exist
+     */
+    public static ImageIcon getIcon(String iconPath) {
+        return getIcon(iconPath, 0, 0);
+    }
+
+    /**
+     * Returns the icon at the specified path scaled to the specified size.
+     *
+     * @param iconPath the classpath path of the icon
+     * @param width    the width to scale to, or 0 to keep the original size
+     * @param height   the height to scale to, or 0 to keep the original size
+     * @return the scaled icon, or null if the resource does not exist
+     */
+    public static ImageIcon getIcon(String iconPath, int width, int height) {
+        boolean original = width <= 0 || height <= 0;
+        Pool pool = original ? ORIGINALS : SCALED;
+        Key key = original ? new Key(iconPath, 0, 0) : new Key(iconPath, width, height);
+        ImageIcon icon = pool.get(key);
+        if (icon != null) {
+            return icon;
+        }
+
+        // Decode and scale outside the lock so other icons can still be served meanwhile
+        icon = original ? createIcon(iconPath) : createScaledIcon(iconPath, width, height);
+        if (icon == null) {
+            return null;
+        }
+        return pool.put(key, icon);
+    }
+
+    /**
+     * Returns the image at the specified path scaled to the specified size.
+     *
+     * @param iconPath the classpath path of the image
+     * @param width    the width to scale to
+     * @param height   the height to scale to
+     * @return the scaled image, or null if the resource does not exist
+     */
+    public static BufferedImage getImage(String iconPath, int width, int height) {
+        ImageIcon icon = getIcon(iconPath, width, height);
+        return icon != null ? (BufferedImage) icon.getImage() : null;
+    }
+
+    /**
+     * Returns the image at the specified path at its original size.
+     *
+     * @param iconPath the classpath path of the image
+     * @return the image, or null if the resource does not exist
+     */
+    public static BufferedImage getImage(String iconPath) {
+        return getImage(iconPath, 0, 0);
+    }
+
+    /**
+     * Removes every icon from the cache.
+     */
+    public static void clear() {
+        SCALED.clear();
+        ORIGINALS.clear();
+    }
+
+    /**
+     * Returns how many images have been decoded since the game started, to check that the cache is hit.
+     *
+     * @return the number of images decoded
+     */
+    public static long getDecodeCount() {
+        return decodeCount.get();
+    }
+
+    /**
+     * Creates an empty translucent image in the format of the default screen, so it can be drawn without conversion.
+     *
+     * @param width  the width of the image
+     * @param height the height of the image
+     * @return the new image
+     */
+    public static BufferedImage createCompatibleImage(int width, int height) {
+        return createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Creates an empty image with the specified transparency in the format of the default screen.
+     *
+     * @param width        the width of the image
+     * @param height       the height of the image
+     * @param transparency the transparency of the image, such as {@link Transparency#OPAQUE}
+     * @return the new image
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration configuration = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return configuration.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height,
+                transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static ImageIcon createIcon(String iconPath) {
+        BufferedImage source = loadImage(iconPath);
+        if (source == null) {
+            return null;
+        }
+        BufferedImage image = createCompatibleImage(source.getWidth(), source.getHeight());
+        Graphics2D g = image.createGraphics();
+        g.drawImage(source, 0, 0, null);
+        g.dispose();
+        return new ImageIcon(image);
+    }
+
+    private static ImageIcon createScaledIcon(String iconPath, int width, int height) {
+        // Use the full-size image if it is already kept, otherwise decode it just for this and let it go
+        ImageIcon original = ORIGINALS.get(new Key(iconPath, 0, 0));
+        Image source = original != null ? original.getImage() : loadImage(iconPath);
+        if (source == null) {
+            return null;
+        }
+        // Area-averaged scaling keeps the same look as the old getScaledInstance(SCALE_SMOOTH) calls
+        ImageIcon scaled = new ImageIcon(source.getScaledInstance(width, height, Image.SCALE_SMOOTH));
+        BufferedImage image = createCompatibleImage(width, height);
+        Graphics2D g = image.createGraphics();
+        g.drawImage(scaled.getImage(), 0, 0, null);
+        g.dispose();
+        return new ImageIcon(image);
+    }
+
+    /**
+     * Decodes the image at the specified path without caching it.
+     *
+     * @param iconPath the classpath path of the image
+     * @return the image, or null if the resource does not exist or cannot be read
+     */
+    static BufferedImage loadImage(String iconPath) {
+        URL url = IconCache.class.getResource(iconPath);
+        if (url == null) {
+            System.err.println("Error: Icon resource not found: " + iconPath);
+            return null;
+        }
+        try {
+            decodeCount.incrementAndGet();
+            return ImageIO.read(url);
+        } catch (IOException e) {
+            System.err.println("Error: Could not read icon: " + iconPath);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * A least recently used set of icons bounded by their total number of pixels.
+     */
+    private static final class Pool {
+        private final long maxPixels;
+        private final LinkedHashMap<Key, ImageIcon> icons = new LinkedHashMap<>(64, 0.75f, true);
+        private long cachedPixels = 0;
+
+        Pool(long maxPixels) {
+            this.maxPixels = maxPixels;
+        }
+
+        synchronized ImageIcon get(Key key) {
+            return icons.get(key);
+        }
+
+        /**
+         * Adds an icon unless another thread added one for the same key first, and returns the one kept.
+         */
+        synchronized ImageIcon put(Key key, ImageIcon icon) {
+            ImageIcon existing = icons.putIfAbsent(key, icon);
+            if (existing != null) {
+                return existing;
+            }
+            cachedPixels += pixelsOf(icon);
+            Iterator<ImageIcon> iterator = icons.values().iterator();
+            // Always keep the most recent icon, even if it is larger than the whole budget on its own
+            while (cachedPixels > maxPixels && icons.size() > 1) {
+                cachedPixels -= pixelsOf(iterator.next());
+                iterator.remove();
+            }
+            return icon;
+        }
+
+        synchronized void clear() {
+            icons.clear();
+            cachedPixels = 0;
+        }
+
+        private static long pixelsOf(ImageIcon icon) {
+            return (long) icon.getIconWidth() * icon.getIconHeight();
+        }
+    }
+
+    private static final class Key {
+        private final String iconPath;
+        private final int width;
+        private final int height;
+
+        Key(String iconPath, int width, int height) {
+            this.iconPath = iconPath;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return width == other.width && height == other.height && iconPath.equals(other.iconPath);
+        }
+
+        @Override
+        public int hashCode() {
+            return (iconPath.hashCode() * 31 + width) * 31 + height;
+        }
+    }
+}
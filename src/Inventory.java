@@ -3,28 +3,91 @@ import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.*;
+import java.util.List;
+
+public class Inventory implements ItemContainer {
+    private static final int DEFAULT_CAPACITY = 24;
 
-public class Inventory {
-    private Map<String, Item> items;
     private JPanel inventoryPanel;
-    private Map<Integer, Item> slotItems; // Mapping from slot index to items
-    private int maxCapacity = 24;
+    private ItemDef[] slots; // The item in each slot, or null if the slot is empty
+    private int[] slotCounts; // The count of the item in each slot
+    private BitSet freeSlots = new BitSet(); // A set bit marks an empty slot
+    private int[] slotByItemId; // The slot holding each item, by item id, or -1 if the item is not held
+    private int maxCapacity;
     private GameFrame gameFrame;
-    private Set<String> uniqueItems; // Set to track unique items
-    private int updateThreshold = 5; // Number of items to batch before updating UI
-    private int updateCounter = 0;
+    private SlotView[] slotViews; // Slot components, created once and updated in place
+    private BitSet dirtySlots = new BitSet(); // Slots whose item or count may have changed since the last refresh
+    private boolean refreshScheduled = false;
 
     public Inventory(JPanel inventoryPanel, GameFrame gameFrame) {
-        this.items = new HashMap<>();
+        this(inventoryPanel, gameFrame, DEFAULT_CAPACITY);
+    }
+
+    public Inventory(JPanel inventoryPanel, GameFrame gameFrame, int maxCapacity) {
         this.inventoryPanel = inventoryPanel;
-        this.slotItems = new HashMap<>();
         this.gameFrame = gameFrame;
-        this.uniqueItems = new HashSet<>(); // Initialize the set
+        this.maxCapacity = maxCapacity;
+        this.slots = new ItemDef[maxCapacity];
+        this.slotCounts = new int[maxCapacity];
+        this.freeSlots.set(0, maxCapacity);
+        this.slotByItemId = new int[gameFrame.getItemRegistry().size()];
+        Arrays.fill(slotByItemId, -1);
         initInventoryPanel();
     }
 
-    public Item getItemByName(String name) {
-        return items.get(name);
+    @Override
+    public int getCount(int itemId) {
+        int slot = getSlot(itemId);
+        return slot >= 0 ? slotCounts[slot] : 0;
+    }
+
+    /**
+     * Returns how many of an item the inventory holds, by item name.
+     *
+     * @param name the item name
+     * @return the count, or 0 if the inventory does not hold the item
+     */
+    public int getCountByName(String name) {
+        int itemId = gameFrame.getItemRegistry().getItemId(name);
+        return itemId >= 0 ? getCount(itemId) : 0;
+    }
+
+    private int getSlot(int itemId) {
+        return itemId < slotByItemId.length ? slotByItemId[itemId] : -1;
+    }
+
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    /**
+     * Changes the number of inventory slots. The inventory can only shrink if the removed slots are empty.
+     *
+     * @param maxCapacity the new number of slots
+     */
+    public void setMaxCapacity(int maxCapacity) {
+        int lastUsedSlot = findLastUsedSlot();
+        if (maxCapacity <= lastUsedSlot) {
+            throw new IllegalArgumentException("Cannot shrink the inventory below occupied slot " + lastUsedSlot);
+        }
+        slots = Arrays.copyOf(slots, maxCapacity);
+        slotCounts = Arrays.copyOf(slotCounts, maxCapacity);
+        if (maxCapacity > this.maxCapacity) {
+            freeSlots.set(this.maxCapacity, maxCapacity);
+        } else {
+            freeSlots.clear(maxCapacity, this.maxCapacity);
+        }
+        this.maxCapacity = maxCapacity;
+        initInventoryPanel();
+    }
+
+    private int findLastUsedSlot() {
+        for (int i = maxCapacity - 1; i >= 0; i--) {
+            if (slots[i] != null) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     public void setSlotsPanel(JPanel slotsPanel) {
@@ -33,6 +96,7 @@ public class Inventory {
     }
 
     private void initInventoryPanel() {
+        inventoryPanel.removeAll();
         inventoryPanel.setLayout(new GridBagLayout());
         GridBagConstraints gbc = new GridBagConstraints();
         gbc.insets = new Insets(5, 5, 5, 5);
@@ -40,12 +104,15 @@ public class Inventory {
         gbc.weightx = 1.0;
         gbc.weighty = 1.0;
 
+        slotViews = new SlotView[maxCapacity];
         for (int i = 0; i < maxCapacity; i++) {
-            JPanel slot = createEmptySlotPanel();
+            slotViews[i] = new SlotView(i);
             gbc.gridx = i % 4;
             gbc.gridy = i / 4;
-            inventoryPanel.add(slot, gbc);
+            inventoryPanel.add(slotViews[i].slot, gbc);
         }
+        dirtySlots.set(0, maxCapacity);
+        scheduleRefresh();
 
         inventoryPanel.revalidate();
         inventoryPanel.repaint();
@@ -65,53 +132,146 @@ public class Inventory {
         return slot;
     }
 
-    public boolean addItem(Item item) {
+    /**
+     * The components of one inventory slot. They are created once and only their contents change,
+     * and the view remembers what it last showed so unchanged slots are not touched at all.
+     */
+    private class SlotView {
+        private final JPanel slot;
+        private final JPanel itemPanel;
+        private final JLabel iconLabel;
+        private final JLabel nameLabel;
+        private final JLabel countLabel;
+        private int shownItemId = -1;
+        private int shownCount;
+
+        SlotView(int index) {
+            slot = createEmptySlotPanel();
+            itemPanel = new JPanel(new BorderLayout());
+            itemPanel.setBorder(BorderFactory.createLineBorder(Color.BLACK));
+            iconLabel = new JLabel("", JLabel.CENTER);
+            nameLabel = new JLabel("", JLabel.CENTER);
+            countLabel = new JLabel("", JLabel.CENTER);
+            itemPanel.add(nameLabel, BorderLayout.NORTH);
+            itemPanel.add(iconLabel, BorderLayout.CENTER);
+            itemPanel.add(countLabel, BorderLayout.SOUTH);
+            itemPanel.setVisible(false);
+            slot.add(itemPanel);
+
+            // The listener looks the item up when clicked, so it stays valid when the slot's item changes
+            itemPanel.addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    ItemDef item = slots[index];
+                    if (item == null) {
+                        return;
+                    }
+                    if (SwingUtilities.isRightMouseButton(e)) {
+                        showDropOrDepositMenu(e, item);
+                    } else if (SwingUtilities.isLeftMouseButton(e) && "You are in the bank.".equals(gameFrame.getCurrentScene().getDescription())) {
+                        depositItemToBank(item);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Shows the specified item, touching the components only if the item or its count changed.
+         *
+         * @return true if the slot changed
+         */
+        boolean update(ItemDef item, int count) {
+            int itemId = item != null ? item.getId() : -1;
+            if (itemId == shownItemId && count == shownCount) {
+                return false;
+            }
+            if (item == null) {
+                itemPanel.setVisible(false);
+            } else {
+                if (itemId != shownItemId) {
+                    iconLabel.setIcon(IconCache.getIcon(item.getIconPath(), 50, 50));
+                    nameLabel.setText(item.getName());
+                    itemPanel.setToolTipText(item.getName());
+                }
+                countLabel.setText("x" + count);
+                itemPanel.setVisible(true);
+            }
+            shownItemId = itemId;
+            shownCount = count;
+            slot.revalidate();
+            slot.repaint();
+            return true;
+        }
+    }
+
+    /**
+     * Adds some of an item, stacking it with the item's existing slot or taking an empty slot.
+     *
+     * @param item  the item
+     * @param count the amount to add
+     * @return false if the item needs a new slot and the inventory is full
+     */
+    public boolean addItem(ItemDef item, int count) {
+        int existingSlot = getSlot(item.getId());
+        if (existingSlot >= 0) {
+            slotCounts[existingSlot] += count;
+            markSlotDirty(existingSlot);
+            return true;
+        }
         int emptySlot = findFirstEmptySlot();
         if (emptySlot == -1) {
             return false;
         }
-        boolean isNewItem = !items.containsKey(item.getName());
-        if (isNewItem) {
-            uniqueItems.add(item.getName());
-        }
-        if (items.containsKey(item.getName())) {
-            items.get(item.getName()).incrementCount(item.getCount());
-        } else {
-            items.put(item.getName(), item);
-            slotItems.put(emptySlot, item);
+        slots[emptySlot] = item;
+        slotCounts[emptySlot] = count;
+        freeSlots.clear(emptySlot);
+        if (item.getId() >= slotByItemId.length) {
+            int oldLength = slotByItemId.length;
+            slotByItemId = Arrays.copyOf(slotByItemId, item.getId() + 1);
+            Arrays.fill(slotByItemId, oldLength, slotByItemId.length, -1);
         }
-        updateCounter++;
-        if (updateCounter >= updateThreshold) {
-            updateCounter = 0;
-        }
-        SwingUtilities.invokeLater(this::refreshInventoryPanel);
+        slotByItemId[item.getId()] = emptySlot;
+        markSlotDirty(emptySlot);
         return true;
     }
 
+    private void markSlotDirty(int slot) {
+        if (slot >= 0) {
+            dirtySlots.set(slot);
+            scheduleRefresh();
+        }
+    }
 
-    private void updateItemPanel(Item item) {
-        for (int i = 0; i < maxCapacity; i++) {
-            if (slotItems.containsKey(i) && slotItems.get(i).getName().equals(item.getName())) {
-                JPanel slot = (JPanel) inventoryPanel.getComponent(i);
-                slot.removeAll();
-                slot.add(createItemPanel(item));
-                slot.revalidate();
-                slot.repaint();
-                break;
-            }
+    /**
+     * Schedules one refresh for the next turn of the event dispatch thread.
+     * Any further changes made before then are picked up by the same refresh.
+     */
+    private void scheduleRefresh() {
+        if (!refreshScheduled) {
+            refreshScheduled = true;
+            SwingUtilities.invokeLater(this::refreshDirtySlots);
         }
     }
 
-    private int findFirstEmptySlot() {
-        for (int i = 0; i < maxCapacity; i++) {
-            if (!slotItems.containsKey(i)) {
-                return i;
+    private void refreshDirtySlots() {
+        refreshScheduled = false;
+        int changedSlots = 0;
+        for (int i = dirtySlots.nextSetBit(0); i >= 0 && i < slotViews.length; i = dirtySlots.nextSetBit(i + 1)) {
+            if (slotViews[i].update(slots[i], slotCounts[i])) {
+                changedSlots++;
             }
         }
-        return -1; // No empty slots found
+        dirtySlots.clear();
+        if (changedSlots > 0) {
+            System.out.println("Inventory panel refreshed (" + changedSlots + " slots changed).");
+        }
+    }
+
+    private int findFirstEmptySlot() {
+        return freeSlots.nextSetBit(0); // -1 if no empty slots are left
     }
 
-    private void showDropOrDepositMenu(MouseEvent e, Item item) {
+    private void showDropOrDepositMenu(MouseEvent e, ItemDef item) {
         JPopupMenu menu = new JPopupMenu();
         String currentSceneDescription = gameFrame.getCurrentScene().getDescription();
 
@@ -120,135 +280,106 @@ public class Inventory {
             JMenuItem depositAllItem = new JMenuItem("Deposit All to Bank");
 
             depositItem.addActionListener(e1 -> {
-                BankWindow bankWindow = gameFrame.getBankWindow();
-                String countStr = JOptionPane.showInputDialog(gameFrame, "Enter amount to deposit:", item.getCount());
+                String countStr = JOptionPane.showInputDialog(gameFrame, "Enter amount to deposit:", getCount(item.getId()));
                 int count = Integer.parseInt(countStr);
-                if (count > 0 && count <= item.getCount()) {
-                    bankWindow.addItemToBank(new Item(item.getName(), item.getIconPath(), item.getWeight(), item.getExperience(), item.getLevelRequirement(), count));
-                    removeItem(item, count);
-                    gameFrame.refreshInventoryPanel();
-                    bankWindow.refreshBankPanel();
+                if (count > 0 && count <= getCount(item.getId())) {
+                    ItemTransfer.transfer(this, gameFrame.getBankWindow(), Collections.singletonMap(item, count));
                 } else {
                     JOptionPane.showMessageDialog(gameFrame, "Invalid amount.");
                 }
             });
 
-            depositAllItem.addActionListener(e1 -> {
-                BankWindow bankWindow = gameFrame.getBankWindow();
-                bankWindow.addItemToBank(new Item(item.getName(), item.getIconPath(), item.getWeight(), item.getExperience(), item.getLevelRequirement(), item.getCount()));
-                removeItem(item, item.getCount());
-                gameFrame.refreshInventoryPanel();
-                bankWindow.refreshBankPanel();
-            });
+            depositAllItem.addActionListener(e1 -> depositItemToBank(item));
 
             menu.add(depositItem);
             menu.add(depositAllItem);
         }
 
         JMenuItem dropItem = new JMenuItem("Drop");
-        dropItem.addActionListener(e12 -> removeItem(item, item.getCount()));
+        dropItem.addActionListener(e12 -> removeItem(item, getCount(item.getId())));
         menu.add(dropItem);
 
         menu.show(e.getComponent(), e.getX(), e.getY());
     }
 
-    public void removeItem(Item item, int count) {
-        if (items.containsKey(item.getName())) {
-            Item inventoryItem = items.get(item.getName());
-            if (inventoryItem.getCount() > count) {
-                inventoryItem.decrementCount(count);
-            } else {
-                items.remove(item.getName());
-                slotItems.values().remove(inventoryItem);
-                uniqueItems.remove(item.getName()); // Remove from unique items set
-            }
-            refreshInventoryPanel();
+    public void removeItem(ItemDef item, int count) {
+        removeCount(item.getId(), count);
+    }
+
+    @Override
+    public void removeCount(int itemId, int count) {
+        int slot = getSlot(itemId);
+        if (slot < 0) {
+            return;
         }
+        if (slotCounts[slot] > count) {
+            slotCounts[slot] -= count;
+        } else {
+            slots[slot] = null;
+            slotCounts[slot] = 0;
+            freeSlots.set(slot);
+            slotByItemId[itemId] = -1;
+        }
+        markSlotDirty(slot);
     }
 
-    public boolean isFull() {
-        return slotItems.size() >= maxCapacity;
+    @Override
+    public void addCount(ItemDef item, int count) {
+        addItem(item, count);
     }
 
-    public Collection<Item> getItems() {
-        return new ArrayList<>(items.values());
+    @Override
+    public int getFreeStackCount() {
+        return freeSlots.cardinality();
     }
 
-    public void clear() {
-        items.clear();
-        slotItems.clear();
-        uniqueItems.clear(); // Clear the set of unique items
-        refreshInventoryPanel();
-        System.out.println("Inventory cleared.");
+    @Override
+    public void refresh() {
+        scheduleRefresh();
     }
 
-    public void refreshInventoryPanel() {
-        inventoryPanel.removeAll();
-        GridBagConstraints gbc = new GridBagConstraints();
-        gbc.insets = new Insets(5, 5, 5, 5);
-        gbc.fill = GridBagConstraints.BOTH;
-        gbc.weightx = 1.0;
-        gbc.weighty = 1.0;
+    public boolean isFull() {
+        return freeSlots.isEmpty();
+    }
 
+    /**
+     * Returns the stacks in the inventory in slot order.
+     *
+     * @return a new list of the stacks
+     */
+    public List<ItemStack> getItems() {
+        List<ItemStack> items = new ArrayList<>(maxCapacity - freeSlots.cardinality());
         for (int i = 0; i < maxCapacity; i++) {
-            JPanel slot = createEmptySlotPanel();
-            if (slotItems.containsKey(i)) {
-                slot.add(createItemPanel(slotItems.get(i)));
+            if (slots[i] != null) {
+                items.add(new ItemStack(slots[i], slotCounts[i]));
             }
-            gbc.gridx = i % 4;
-            gbc.gridy = i / 4;
-            inventoryPanel.add(slot, gbc);
         }
-        inventoryPanel.revalidate();
-        inventoryPanel.repaint();
-        System.out.println("Inventory panel refreshed.");
+        return items;
     }
 
-    public JPanel createItemPanel(Item item) {
-        JPanel itemPanel = new JPanel(new BorderLayout());
-        itemPanel.setBorder(BorderFactory.createLineBorder(Color.BLACK));
-
-        ImageIcon originalIcon = new ImageIcon(getClass().getResource(item.getIconPath()));
-        Image scaledImage = originalIcon.getImage().getScaledInstance(50, 50, Image.SCALE_SMOOTH);
-        ImageIcon scaledIcon = new ImageIcon(scaledImage);
-
-        JLabel iconLabel = new JLabel(scaledIcon, JLabel.CENTER);
-        JLabel nameLabel = new JLabel(item.getName(), JLabel.CENTER);
-        JLabel countLabel = new JLabel("x" + item.getCount(), JLabel.CENTER);
-
-        itemPanel.add(nameLabel, BorderLayout.NORTH);
-        itemPanel.add(iconLabel, BorderLayout.CENTER);
-        itemPanel.add(countLabel, BorderLayout.SOUTH);
-
-        itemPanel.setToolTipText(item.getName());
-
-        itemPanel.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseClicked(MouseEvent e) {
-                if (SwingUtilities.isRightMouseButton(e)) {
-                    showDropOrDepositMenu(e, item);
-                } else if (SwingUtilities.isLeftMouseButton(e) && "You are in the bank.".equals(gameFrame.getCurrentScene().getDescription())) {
-                    depositItemToBank(item);
-                }
-            }
-        });
+    public void clear() {
+        Arrays.fill(slots, null);
+        Arrays.fill(slotCounts, 0);
+        freeSlots.set(0, maxCapacity);
+        Arrays.fill(slotByItemId, -1);
+        refreshInventoryPanel();
+        System.out.println("Inventory cleared.");
+    }
 
-        return itemPanel;
+    /**
+     * Brings every slot up to date with the inventory contents. Only slots whose item or count
+     * actually changed are updated and repainted.
+     */
+    public void refreshInventoryPanel() {
+        dirtySlots.set(0, maxCapacity);
+        scheduleRefresh();
     }
 
-    private void depositItemToBank(Item item) {
-        BankWindow bankWindow = gameFrame.getBankWindow();
-        bankWindow.addItemToBank(new Item(item.getName(), item.getIconPath(), item.getWeight(), item.getExperience(), item.getLevelRequirement(), item.getCount()));
-        removeItem(item, item.getCount());
-        gameFrame.refreshInventoryPanel();
-        bankWindow.refreshBankPanel();
+    private void depositItemToBank(ItemDef item) {
+        ItemTransfer.transfer(this, gameFrame.getBankWindow(), Collections.singletonMap(item, getCount(item.getId())));
     }
 
-    public void handleItemDepositToBank(Item item) {
-        BankWindow bankWindow = gameFrame.getBankWindow();
-        bankWindow.addItemToBank(new Item(item.getName(), item.getIconPath(), item.getWeight(), item.getExperience(), item.getLevelRequirement(), item.getCount()));
-        removeItem(item, item.getCount());
-        gameFrame.refreshInventoryPanel();
-        bankWindow.refreshBankPanel();
+    public void handleItemDepositToBank(ItemDef item) {
+        depositItemToBank(item);
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+/**
+ * ItemContainer is something that holds stacks of items, such as the inventory or the bank.
+ * Containers keep a count per item id; the item definitions themselves are shared.
+ * The methods change the contents without updating the UI; {@link ItemTransfer} calls
+ * {@link #refresh()} once when a whole transfer is done.
+ */
+public interface ItemContainer {
+    /**
+     * Returns how many of an item the container holds.
+     *
+     * @param itemId the item id
+     * @return the count, or 0 if the container does not hold the item
+     */
+    int getCount(int itemId);
+
+    /**
+     * Returns how many more distinct items the container can hold.
+     *
+     * @return the number of free stacks, or Integer.MAX_VALUE if the container is unbounded
+     */
+    int getFreeStackCount();
+
+    /**
+     * Adds to the stack of an item, starting a new stack if the container does not hold the item yet.
+     * Callers check {@link #getFreeStackCount()} before adding new items.
+     *
+     * @param item  the item
+     * @param count the amount to add
+     */
+    void addCount(ItemDef item, int count);
+
+    /**
+     * Removes some of a stack. Removing the whole count frees the stack.
+     *
+     * @param itemId the item id
+     * @param count  the amount to remove
+     */
+    void removeCount(int itemId, int count);
+
+    /**
+     * Updates the container's UI after its contents changed.
+     */
+    void refresh();
+}
@@ -0,0 +1,56 @@
+/**
+ * The definition of an item in the game: its name, icon and foraging values. Definitions are
+ * created once by the {@link ItemRegistry} and shared by everything that refers to the item, so
+ * they never change. How many of an item a container holds is kept by the container.
+ */
+public final class ItemDef {
+    private final int id;
+    private final String name;
+    private final String iconPath;
+    private final int weight;
+    private final int experience;
+    private final int levelRequirement;
+
+    /**
+     * Constructs an item definition with the specified attributes.
+     *
+     * @param id               the item id, assigned by the {@link ItemRegistry}
+     * @param name             the name of the item
+     * @param iconPath         the path to the item's icon
+     * @param weight           the weight of the item
+     * @param experience       the experience value of the item
+     * @param levelRequirement the level requirement to use the item
+     */
+    public ItemDef(int id, String name, String iconPath, int weight, int experience, int levelRequirement) {
+        this.id = id;
+        this.name = name;
+        this.iconPath = iconPath;
+        this.weight = weight;
+        this.experience = experience;
+        this.levelRequirement = levelRequirement;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getIconPath() {
+        return iconPath;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getExperience() {
+        return experience;
+    }
+
+    public int getLevelRequirement() {
+        return levelRequirement;
+    }
+}
@@ -0,0 +1,167 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * ItemRegistry holds every item in the game and the loot tables of the scenes, loaded from
+ * CSV data files at startup. Each item gets a dense id in file order, so the inventory, bank and
+ * collections can keep their item state in arrays indexed by id instead of maps keyed by name.
+ *
+ * <p>Each line of the item file is {@code name,iconPath,weight,experience,levelRequirement}.
+ * Each line of the loot table file is {@code table,item}, where an item of {@code @table} adds
+ * every item of a table defined earlier in the file. Blank lines and lines starting with
+ * {@code #} are ignored.</p>
+ */
+public class ItemRegistry {
+    private final List<ItemDef> items = new ArrayList<>(); // The definition of each item, by id
+    private final Map<String, Integer> itemIds = new HashMap<>();
+    private final Map<String, List<ItemDef>> lootTables = new HashMap<>();
+
+    /**
+     * Loads the registry from classpath resources.
+     *
+     * @param itemsPath      the classpath path of the item CSV file
+     * @param lootTablesPath the classpath path of the loot table CSV file
+     * @return the registry, which is empty if the files could not be read
+     */
+    public static ItemRegistry load(String itemsPath, String lootTablesPath) {
+        ItemRegistry registry = new ItemRegistry();
+        readLines(itemsPath, registry::parseItem);
+        readLines(lootTablesPath, registry::parseLootTableEntry);
+        System.out.println("Loaded " + registry.size() + " items and " + registry.lootTables.size() + " loot tables.");
+        return registry;
+    }
+
+    private static void readLines(String resourcePath, Consumer<String> parser) {
+        InputStream inputStream = ItemRegistry.class.getResourceAsStream(resourcePath);
+        if (inputStream == null) {
+            System.err.println("Error: Item data not found: " + resourcePath);
+            return;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    parser.accept(line);
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Error: Skipping line " + lineNumber + " of " + resourcePath + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error: Could not read item data: " + resourcePath);
+            e.printStackTrace();
+        }
+    }
+
+    private void parseItem(String line) {
+        String[] fields = line.split(",");
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("expected 5 fields but found " + fields.length);
+        }
+        String name = fields[0].trim();
+        if (itemIds.containsKey(name)) {
+            throw new IllegalArgumentException("duplicate item " + name);
+        }
+
+        int id = items.size();
+        ItemDef item = new ItemDef(id, name, fields[1].trim(), Integer.parseInt(fields[2].trim()),
+                Integer.parseInt(fields[3].trim()), Integer.parseInt(fields[4].trim()));
+        itemIds.put(name, id);
+        items.add(item);
+    }
+
+    private void parseLootTableEntry(String line) {
+        String[] fields = line.split(",");
+        if (fields.length != 2) {
+            throw new IllegalArgumentException("expected 2 fields but found " + fields.length);
+        }
+        String tableName = fields[0].trim();
+        String entry = fields[1].trim();
+
+        List<ItemDef> table = lootTables.computeIfAbsent(tableName, name -> new ArrayList<>());
+        if (entry.startsWith("@")) {
+            List<ItemDef> included = lootTables.get(entry.substring(1));
+            if (included == null || included == table) {
+                throw new IllegalArgumentException("unknown loot table " + entry.substring(1));
+            }
+            table.addAll(included);
+        } else {
+            ItemDef item = getItem(entry);
+            if (item == null) {
+                throw new IllegalArgumentException("unknown item " + entry);
+            }
+            table.add(item);
+        }
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Returns the id of an item.
+     *
+     * @param name the name of the item
+     * @return the item id, or -1 if there is no such item
+     */
+    public int getItemId(String name) {
+        Integer itemId = itemIds.get(name);
+        return itemId != null ? itemId : -1;
+    }
+
+    /**
+     * Returns the definition of an item.
+     *
+     * @param itemId the item id
+     * @return the item
+     */
+    public ItemDef getItem(int itemId) {
+        return items.get(itemId);
+    }
+
+    /**
+     * Returns the definition of an item by name.
+     *
+     * @param name the name of the item
+     * @return the item, or null if there is no such item
+     */
+    public ItemDef getItem(String name) {
+        Integer itemId = itemIds.get(name);
+        return itemId != null ? items.get(itemId) : null;
+    }
+
+    /**
+     * Returns every item in id order.
+     *
+     * @return an unmodifiable list of the items
+     */
+    public List<ItemDef> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Returns a loot table.
+     *
+     * @param tableName the name of the loot table
+     * @return a new list of the table's items, which is empty if there is no such table
+     */
+    public List<ItemDef> getLootTable(String tableName) {
+        List<ItemDef> table = lootTables.get(tableName);
+        return table != null ? new ArrayList<>(table) : new ArrayList<>();
+    }
+}
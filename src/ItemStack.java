@@ -0,0 +1,29 @@
+/**
+ * A snapshot of a stack of items: an item definition and a count. Containers keep their counts
+ * in arrays and hand out stacks when they are listed, so a stack never changes after it is made.
+ */
+public final class ItemStack {
+    private final ItemDef def;
+    private final int count;
+
+    public ItemStack(ItemDef def, int count) {
+        this.def = def;
+        this.count = count;
+    }
+
+    public ItemDef getDef() {
+        return def;
+    }
+
+    public int getItemId() {
+        return def.getId();
+    }
+
+    public String getName() {
+        return def.getName();
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
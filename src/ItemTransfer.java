@@ -0,0 +1,53 @@
+import java.util.Map;
+
+/**
+ * ItemTransfer moves items between containers, such as depositing to and withdrawing from the bank.
+ * A transfer is checked in full before anything moves, so it either moves every requested stack
+ * or nothing at all. Only counts move between the containers, and each container's UI is refreshed
+ * once at the end.
+ */
+public final class ItemTransfer {
+    private ItemTransfer() {
+    }
+
+    /**
+     * Moves items from one container to another.
+     *
+     * @param from   the container to take the items from
+     * @param to     the container to put the items in
+     * @param counts the amount to move of each item
+     * @return true if the items were moved, false if the transfer was not possible and nothing moved
+     */
+    public static boolean transfer(ItemContainer from, ItemContainer to, Map<ItemDef, Integer> counts) {
+        if (from == to || counts.isEmpty()) {
+            return false;
+        }
+
+        // Validate everything first
+        int newStacks = 0;
+        for (Map.Entry<ItemDef, Integer> entry : counts.entrySet()) {
+            int itemId = entry.getKey().getId();
+            int count = entry.getValue();
+            if (count <= 0 || count > from.getCount(itemId)) {
+                System.err.println("Error: Cannot transfer " + count + " x " + entry.getKey().getName() + ".");
+                return false;
+            }
+            if (to.getCount(itemId) == 0) {
+                newStacks++;
+            }
+        }
+        if (newStacks > to.getFreeStackCount()) {
+            return false;
+        }
+
+        // Then apply, which can no longer fail
+        for (Map.Entry<ItemDef, Integer> entry : counts.entrySet()) {
+            from.removeCount(entry.getKey().getId(), entry.getValue());
+            to.addCount(entry.getKey(), entry.getValue());
+        }
+
+        from.refresh();
+        to.refresh();
+        return true;
+    }
+}
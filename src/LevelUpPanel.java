@@ -33,6 +33,19 @@ public class LevelUpPanel extends JPanel {
     protected void paintComponent(Graphics g) {
         // Do not call super.paintComponent(g) to prevent the JPanel from drawing the background itself
         Graphics2D g2d = (Graphics2D) g.create();
+        paintContent(g2d, getWidth(), getHeight());
+        g2d.dispose();
+    }
+
+    /**
+     * Draws the message at the current opacity, so the panel can also be drawn by the {@link EffectsLayer}
+     * without being added to the window.
+     *
+     * @param g2d         the graphics to draw with, translated to the panel's top left corner
+     * @param panelWidth  the width to center the text in
+     * @param panelHeight the height to center the text in
+     */
+    public void paintContent(Graphics2D g2d, int panelWidth, int panelHeight) {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 
@@ -43,10 +56,6 @@ public class LevelUpPanel extends JPanel {
         // Set the opacity for the entire component
         g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
 
-        // Calculate panel dimensions
-        int panelWidth = getWidth();
-        int panelHeight = getHeight();
-
         // Split text into lines
         List<String> lines = getWrappedLines(text, fm, panelWidth - 20);
 
@@ -60,8 +69,6 @@ public class LevelUpPanel extends JPanel {
             drawText(g2d, line, textX, textY);
             textY += fm.getHeight();
         }
-
-        g2d.dispose();
     }
 
     private List<String> getWrappedLines(String text, FontMetrics fm, int maxWidth) {
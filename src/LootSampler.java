@@ -0,0 +1,175 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * LootSampler draws weighted items from a scene's loot table using Vose's alias method.
+ * A sampler is built once for a loot table at a given foraging level, after which every
+ * roll costs two random numbers and performs no allocations.
+ */
+public class LootSampler {
+    private final List<ItemDef> lootTable;
+    private final int lootTableSize;
+    private final int level;
+    private final ItemDef[] items;
+    private final double[] probability;
+    private final int[] alias;
+
+    private LootSampler(List<ItemDef> lootTable, int level, ItemDef[] items, double[] probability, int[] alias) {
+        this.lootTable = lootTable;
+        this.lootTableSize = lootTable.size();
+        this.level = level;
+        this.items = items;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Builds the alias table for the items of the loot table that are available at the specified level.
+     * Items with a non-positive weight can never be rolled and are left out of the table.
+     *
+     * @param lootTable the loot table to sample from
+     * @param level     the foraging level used to filter items by their level requirement
+     * @return a sampler for the loot table at the given level
+     */
+    public static LootSampler build(List<ItemDef> lootTable, int level) {
+        int validCount = 0;
+        long totalWeight = 0;
+        for (ItemDef item : lootTable) {
+            if (item.getLevelRequirement() <= level && item.getWeight() > 0) {
+                validCount++;
+                totalWeight += item.getWeight();
+            }
+        }
+
+        ItemDef[] items = new ItemDef[validCount];
+        double[] probability = new double[validCount];
+        int[] alias = new int[validCount];
+        if (validCount == 0) {
+            return new LootSampler(lootTable, level, items, probability, alias);
+        }
+
+        int index = 0;
+        for (ItemDef item : lootTable) {
+            if (item.getLevelRequirement() <= level && item.getWeight() > 0) {
+                items[index] = item;
+                probability[index] = (double) item.getWeight() * validCount / totalWeight;
+                index++;
+            }
+        }
+
+        // Split the columns into those below and above the average weight, then pair them up
+        int[] small = new int[validCount];
+        int[] large = new int[validCount];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < validCount; i++) {
+            if (probability[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            alias[less] = more;
+            probability[more] = (probability[more] + probability[less]) - 1.0;
+            if (probability[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever is left over is only off by rounding error and always keeps its own item
+        while (largeCount > 0) {
+            int column = large[--largeCount];
+            probability[column] = 1.0;
+            alias[column] = column;
+        }
+        while (smallCount > 0) {
+            int column = small[--smallCount];
+            probability[column] = 1.0;
+            alias[column] = column;
+        }
+
+        return new LootSampler(lootTable, level, items, probability, alias);
+    }
+
+    /**
+     * Checks whether this sampler still matches the specified loot table and level.
+     * A loot table is considered changed when it is a different list or its size has changed.
+     *
+     * @param lootTable the current loot table
+     * @param level     the current foraging level
+     * @return true if the sampler can be reused, false if it needs to be rebuilt
+     */
+    public boolean isValidFor(List<ItemDef> lootTable, int level) {
+        return this.lootTable == lootTable && this.lootTableSize == lootTable.size() && this.level == level;
+    }
+
+    /**
+     * Returns true if no item in the loot table is available at this sampler's level.
+     *
+     * @return true if nothing can be rolled
+     */
+    public boolean isEmpty() {
+        return items.length == 0;
+    }
+
+    /**
+     * Returns the number of items that can be rolled.
+     *
+     * @return the number of columns in the alias table
+     */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * Rolls an item using the specified random number generator.
+     *
+     * @param random the random number generator
+     * @return the rolled item, or null if the sampler is empty
+     */
+    public ItemDef sample(Random random) {
+        if (items.length == 0) {
+            return null;
+        }
+        return sample(random.nextInt(items.length), random.nextDouble());
+    }
+
+    /**
+     * Rolls an item from a pre-drawn column and coin flip. This allows callers to supply
+     * their own source of randomness.
+     *
+     * @param column a uniformly distributed column index in [0, size())
+     * @param coin   a uniformly distributed value in [0, 1)
+     * @return the rolled item
+     */
+    public ItemDef sample(int column, double coin) {
+        return items[sampleIndex(column, coin)];
+    }
+
+    /**
+     * Rolls the index of an item from a pre-drawn column and coin flip.
+     *
+     * @param column a uniformly distributed column index in [0, size())
+     * @param coin   a uniformly distributed value in [0, 1)
+     * @return the index of the rolled item, see {@link #getItem(int)}
+     */
+    public int sampleIndex(int column, double coin) {
+        return coin < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Returns the item at the specified index of the alias table.
+     *
+     * @param index the index of the item
+     * @return the item
+     */
+    public ItemDef getItem(int index) {
+        return items[index];
+    }
+}
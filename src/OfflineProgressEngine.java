@@ -0,0 +1,123 @@
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * OfflineProgressEngine catches the game up on time that passed while it was not running.
+ * Farm plots are moved forward in closed form, since a plot's growth stage follows directly
+ * from its planting time. Idle foraging is rolled as one batch through the scene's loot sampler,
+ * so days of elapsed time cost a few milliseconds instead of replaying every tick. The engine only
+ * reports what was found: experience is earned for the items the caller manages to store, as it is
+ * when foraging live.
+ */
+public class OfflineProgressEngine {
+    private final FarmPlotStore farmPlotStore;
+    private final ForagingEngine foragingEngine;
+
+    /**
+     * Constructs an OfflineProgressEngine.
+     *
+     * @param farmPlotStore  the farm plots to grow
+     * @param foragingEngine the foraging engine used for idle foraging
+     */
+    public OfflineProgressEngine(FarmPlotStore farmPlotStore, ForagingEngine foragingEngine) {
+        this.farmPlotStore = farmPlotStore;
+        this.foragingEngine = foragingEngine;
+    }
+
+    /**
+     * Applies the progress made over the specified time.
+     *
+     * @param elapsedMillis  the time that passed in milliseconds
+     * @param foragingScene  the scene the player forages in while idle, or null for no idle foraging
+     * @param maxForageRolls the most forage rolls to award, or 0 for no idle foraging
+     * @return a summary of the progress made
+     */
+    public OfflineProgress catchUp(long elapsedMillis, Scene foragingScene, int maxForageRolls) {
+        long startTime = System.nanoTime();
+        long now = System.currentTimeMillis();
+
+        // Farming: every plot's stage before and after follows from its planting time
+        int plotCount = farmPlotStore.getPlotCount();
+        int[] stagesBefore = new int[plotCount];
+        for (int plot = 0; plot < plotCount; plot++) {
+            stagesBefore[plot] = farmPlotStore.getStage(plot, now);
+        }
+        farmPlotStore.fastForward(elapsedMillis);
+        int plotsAdvanced = 0;
+        int plotsReady = 0;
+        for (int plot = 0; plot < plotCount; plot++) {
+            if (farmPlotStore.getStage(plot, now) != stagesBefore[plot]) {
+                plotsAdvanced++;
+            }
+            if (farmPlotStore.isFullyGrown(plot, now)) {
+                plotsReady++;
+            }
+        }
+
+        // Foraging: one batch of rolls at the current level
+        int forageRolls = 0;
+        Map<ItemDef, Integer> foragedItems = Collections.emptyMap();
+        if (foragingScene != null && maxForageRolls > 0) {
+            int cycleTime = foragingEngine.getForagingTime(foragingScene) + ForagingEngine.ANIMATION_TIME;
+            forageRolls = (int) Math.min(maxForageRolls, elapsedMillis / cycleTime);
+            foragedItems = foragingEngine.rollLootBatch(foragingScene, forageRolls);
+        }
+
+        System.out.println("Offline progress for " + elapsedMillis + " ms applied in " + (System.nanoTime() - startTime) / 1_000_000 + " ms.");
+        return new OfflineProgress(elapsedMillis, plotsAdvanced, plotsReady, forageRolls, foragedItems);
+    }
+
+    /**
+     * A summary of the progress made by {@link #catchUp}.
+     */
+    public static class OfflineProgress {
+        private final long elapsedMillis;
+        private final int plotsAdvanced;
+        private final int plotsReady;
+        private final int forageRolls;
+        private final Map<ItemDef, Integer> foragedItems;
+
+        OfflineProgress(long elapsedMillis, int plotsAdvanced, int plotsReady, int forageRolls, Map<ItemDef, Integer> foragedItems) {
+            this.elapsedMillis = elapsedMillis;
+            this.plotsAdvanced = plotsAdvanced;
+            this.plotsReady = plotsReady;
+            this.forageRolls = forageRolls;
+            this.foragedItems = foragedItems;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Returns the number of plots whose growth stage changed.
+         *
+         * @return the number of plots
+         */
+        public int getPlotsAdvanced() {
+            return plotsAdvanced;
+        }
+
+        /**
+         * Returns the number of plots that are ready to harvest.
+         *
+         * @return the number of plots
+         */
+        public int getPlotsReady() {
+            return plotsReady;
+        }
+
+        public int getForageRolls() {
+            return forageRolls;
+        }
+
+        /**
+         * Returns the number of each item found while idle foraging. No experience has been given for them yet.
+         *
+         * @return the item counts
+         */
+        public Map<ItemDef, Integer> getForagedItems() {
+            return foragedItems;
+        }
+    }
+}
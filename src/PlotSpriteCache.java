@@ -0,0 +1,143 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PlotSpriteCache holds the finished images of farm plots: the plot with a crop drawn on top at
+ * each growth stage, keyed by seed, stage and plot size. Each sprite is composed once, so drawing
+ * a farm page or showing a new growth stage only assigns an icon.
+ */
+public class PlotSpriteCache {
+    private static final String EMPTY_PLOT_PATH = "/farmplot-transparent.png";
+
+    private static final ConcurrentHashMap<Key, ImageIcon> SPRITES = new ConcurrentHashMap<>();
+
+    private PlotSpriteCache() {
+    }
+
+    /**
+     * Returns the image of an empty plot.
+     *
+     * @param width  the plot width
+     * @param height the plot height
+     * @return the plot icon
+     */
+    public static ImageIcon getEmptyPlot(int width, int height) {
+        return IconCache.getIcon(EMPTY_PLOT_PATH, width, height);
+    }
+
+    /**
+     * Returns the image of a plot with a crop at the specified growth stage, composing it the first time.
+     *
+     * @param seed   the planted seed
+     * @param stage  the growth stage
+     * @param width  the plot width
+     * @param height the plot height
+     * @return the plot icon, or null if the stage image does not exist
+     */
+    public static ImageIcon getSprite(SeedInfo seed, int stage, int width, int height) {
+        // The stage image path is precomputed by the seed, so a lookup builds no strings
+        Key key = new Key(seed.getStageImagePath(stage), stage, width, height);
+        ImageIcon sprite = SPRITES.get(key);
+        if (sprite == null) {
+            sprite = createSprite(key.imagePath, stage, width, height);
+            if (sprite != null) {
+                ImageIcon existing = SPRITES.putIfAbsent(key, sprite);
+                if (existing != null) {
+                    sprite = existing;
+                }
+            }
+        }
+        return sprite;
+    }
+
+    /**
+     * Composes the sprites of every stage of the specified seeds on a background thread,
+     * so the farm does not have to compose them when it is first shown.
+     *
+     * @param seeds the seeds to compose
+     * @param size  the plot width and height
+     */
+    public static void warmAsync(Collection<SeedInfo> seeds, int size) {
+        List<SeedInfo> seedList = new ArrayList<>(seeds);
+        Thread warmer = new Thread(() -> {
+            long startTime = System.nanoTime();
+            getEmptyPlot(size, size);
+            for (SeedInfo seed : seedList) {
+                for (int stage = 1; stage <= seed.getMaxStage(); stage++) {
+                    getSprite(seed, stage, size, size);
+                }
+            }
+            System.out.println("Plot sprites composed in " + (System.nanoTime() - startTime) / 1_000_000 + " ms.");
+        }, "plot-sprite-warmer");
+        warmer.setDaemon(true);
+        warmer.setPriority(Thread.MIN_PRIORITY);
+        warmer.start();
+    }
+
+    private static ImageIcon createSprite(String imagePath, int stage, int plotWidth, int plotHeight) {
+        ImageIcon seedIcon = IconCache.getIcon(imagePath);
+        ImageIcon plotIcon = getEmptyPlot(plotWidth, plotHeight);
+        if (seedIcon == null || plotIcon == null) {
+            System.err.println("Error: Could not compose plot sprite for path: " + imagePath);
+            return null;
+        }
+
+        int seedWidth, seedHeight;
+        double seedAspectRatio = (double) seedIcon.getIconWidth() / seedIcon.getIconHeight();
+        double plotAspectRatio = (double) plotWidth / plotHeight;
+        if (seedAspectRatio > plotAspectRatio) {
+            seedWidth = (int) (plotHeight * seedAspectRatio * 0.8);
+            seedHeight = (int) (plotHeight * 0.8);
+        } else {
+            seedHeight = (int) (plotWidth / seedAspectRatio * 0.8);
+            seedWidth = (int) (plotWidth * 0.8);
+        }
+
+        // Later stages are drawn a little higher as the crop grows out of the plot
+        int seedX = (plotWidth - seedWidth) / 2;
+        int seedY = ((plotHeight - seedHeight) / 2 - 5 * (stage - 3)) - 15;
+
+        BufferedImage sprite = IconCache.createCompatibleImage(plotWidth, plotHeight);
+        Graphics2D g = sprite.createGraphics();
+        g.drawImage(plotIcon.getImage(), 0, 0, null);
+        g.drawImage(IconCache.getImage(imagePath, seedWidth, seedHeight), seedX, seedY, null);
+        g.dispose();
+        return new ImageIcon(sprite);
+    }
+
+    private static final class Key {
+        private final String imagePath;
+        private final int stage;
+        private final int width;
+        private final int height;
+
+        Key(String imagePath, int stage, int width, int height) {
+            this.imagePath = imagePath;
+            this.stage = stage;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return stage == other.stage && width == other.width && height == other.height && imagePath.equals(other.imagePath);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((imagePath.hashCode() * 31 + stage) * 31 + width) * 31 + height;
+        }
+    }
+}
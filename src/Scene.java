@@ -8,7 +8,7 @@ public class Scene {
     private String description;
     private String imagePath;
     private List<String> adjacentScenes;
-    private List<Item> lootTable;
+    private List<ItemDef> lootTable;
     private int difficulty;
 
     /**
@@ -21,7 +21,7 @@ public class Scene {
      * @param lootTable       the list of items that can be found in the scene
      * @param difficulty      the difficulty level of the scene
      */
-    public Scene(String name, String description, String imagePath, List<String> adjacentScenes, List<Item> lootTable, int difficulty) {
+    public Scene(String name, String description, String imagePath, List<String> adjacentScenes, List<ItemDef> lootTable, int difficulty) {
         this.name = name;
         this.description = description;
         this.imagePath = imagePath;
@@ -42,7 +42,7 @@ public class Scene {
         return imagePath;
     }
 
-    public List<Item> getLootTable() {
+    public List<ItemDef> getLootTable() {
         return lootTable;
     }
 
@@ -3,11 +3,22 @@ public class SeedInfo {
     private String seedName;
     private int maxStage;
     private List<Integer> growthTimes; // List of growth times for each stage
+    private long[] stageStartTimes; // Time after planting at which each stage starts, indexed by stage - 1
+    private String[] stageImagePaths; // Image of each stage, indexed by stage - 1
 
-    public SeedInfo(String seedName, int maxStage, List<Integer> growthTimes) {
+    public SeedInfo(String seedName, int maxStage, List<Integer> growthTimes, String stageImagePrefix) {
         this.seedName = seedName;
         this.maxStage = maxStage;
         this.growthTimes = growthTimes;
+        this.stageImagePaths = new String[maxStage];
+        for (int stage = 1; stage <= maxStage; stage++) {
+            stageImagePaths[stage - 1] = stageImagePrefix + stage + ".png";
+        }
+        this.stageStartTimes = new long[maxStage];
+        for (int stage = 2; stage <= maxStage; stage++) {
+            int growthTime = stage - 2 < growthTimes.size() ? growthTimes.get(stage - 2) : 0;
+            stageStartTimes[stage - 1] = stageStartTimes[stage - 2] + growthTime;
+        }
     }
 
     public String getSeedName() {
@@ -21,4 +32,59 @@ public class SeedInfo {
     public List<Integer> getGrowthTimes() {
         return growthTimes;
     }
+
+    /**
+     * Returns the image path of a growth stage, such as "/cabbageGrowing3.png".
+     *
+     * @param stage the growth stage, between 1 and the max stage
+     * @return the image path
+     */
+    public String getStageImagePath(int stage) {
+        return stageImagePaths[stage - 1];
+    }
+
+    /**
+     * Returns the total time it takes a seed to grow from planting to its final stage.
+     *
+     * @return the growth time in milliseconds
+     */
+    public long getTotalGrowthTime() {
+        return stageStartTimes[maxStage - 1];
+    }
+
+    /**
+     * Returns the growth stage a seed has reached after growing for the specified time.
+     * Seeds start at stage 1 when planted.
+     *
+     * @param elapsedMillis the time since the seed was planted
+     * @return the growth stage, between 1 and the max stage
+     */
+    public int getStageAt(long elapsedMillis) {
+        // Binary search for the last stage that started at or before the elapsed time
+        int low = 0;
+        int high = maxStage - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (stageStartTimes[mid] <= elapsedMillis) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low + 1;
+    }
+
+    /**
+     * Returns the time until a seed reaches its next growth stage.
+     *
+     * @param elapsedMillis the time since the seed was planted
+     * @return the time in milliseconds, or -1 if the seed is fully grown
+     */
+    public long getTimeUntilNextStage(long elapsedMillis) {
+        int stage = getStageAt(elapsedMillis);
+        if (stage >= maxStage) {
+            return -1;
+        }
+        return stageStartTimes[stage] - elapsedMillis;
+    }
 }
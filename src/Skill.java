@@ -0,0 +1,136 @@
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Skill tracks the level and experience of one skill, such as foraging or farming.
+ * The level and experience are packed into a single atomic value so experience can be
+ * added from any thread without locking. Skill has no Swing dependency; a {@link SkillRegistry}
+ * picks up the changes and shows them in the Stats tab.
+ */
+public class Skill {
+    private static final int LEVEL_SHIFT = 48;
+    private static final long EXPERIENCE_MASK = (1L << LEVEL_SHIFT) - 1;
+
+    private final String name;
+    private final AtomicLong state;
+    private final AtomicBoolean changed = new AtomicBoolean(true);
+    private final AtomicInteger unreportedLevel = new AtomicInteger();
+    private volatile Runnable changeListener;
+
+    /**
+     * Constructs a Skill at level 1 with no experience.
+     *
+     * @param name the display name of the skill
+     */
+    public Skill(String name) {
+        this(name, 1, 0);
+    }
+
+    /**
+     * Constructs a Skill with the specified level and experience.
+     *
+     * @param name       the display name of the skill
+     * @param level      the starting level
+     * @param experience the starting experience
+     */
+    public Skill(String name, int level, long experience) {
+        this.name = name;
+        this.state = new AtomicLong(pack(level, experience));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLevel() {
+        return levelOf(state.get());
+    }
+
+    public long getExperience() {
+        return experienceOf(state.get());
+    }
+
+    /**
+     * Returns the experience points needed for the next level.
+     *
+     * @return the experience points needed
+     */
+    public long getExperienceForNextLevel() {
+        return ExperienceCalculator.getExperienceForNextLevel(getLevel());
+    }
+
+    /**
+     * Returns the progress towards the next level as a percentage.
+     *
+     * @return the progress percentage
+     */
+    public double getProgress() {
+        long current = state.get();
+        long expNeeded = ExperienceCalculator.getExperienceForNextLevel(levelOf(current));
+        return ((double) experienceOf(current) / expNeeded) * 100;
+    }
+
+    /**
+     * Adds experience points to the skill. This may be called from any thread.
+     *
+     * @param experienceGained the experience points to add
+     * @return the outcome of the gain, including any levels crossed
+     */
+    public ExperienceCalculator.ExperienceGain addExperience(long experienceGained) {
+        while (true) {
+            long current = state.get();
+            ExperienceCalculator.ExperienceGain gain = ExperienceCalculator.addExperience(experienceOf(current), levelOf(current), experienceGained);
+            if (state.compareAndSet(current, pack(gain.getNewLevel(), gain.getExperience()))) {
+                if (gain.isLevelUp()) {
+                    unreportedLevel.accumulateAndGet(gain.getNewLevel(), Math::max);
+                }
+                changed.set(true);
+                Runnable listener = changeListener;
+                if (listener != null) {
+                    listener.run();
+                }
+                return gain;
+            }
+        }
+    }
+
+    /**
+     * Sets the callback invoked after every change to the skill.
+     *
+     * @param changeListener the callback, or null to remove it
+     */
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Returns whether the skill changed since the last call, and resets the flag.
+     *
+     * @return true if the skill changed
+     */
+    public boolean takeChanged() {
+        return changed.getAndSet(false);
+    }
+
+    /**
+     * Returns the highest level reached since the last call, and resets it.
+     *
+     * @return the new level, or 0 if the skill has not leveled up since the last call
+     */
+    public int takeLevelUp() {
+        return unreportedLevel.getAndSet(0);
+    }
+
+    private static long pack(int level, long experience) {
+        return ((long) level << LEVEL_SHIFT) | (experience & EXPERIENCE_MASK);
+    }
+
+    private static int levelOf(long state) {
+        return (int) (state >>> LEVEL_SHIFT);
+    }
+
+    private static long experienceOf(long state) {
+        return state & EXPERIENCE_MASK;
+    }
+}
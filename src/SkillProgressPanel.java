@@ -0,0 +1,85 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+/**
+ * SkillProgressPanel shows the level label and experience progress bar of a skill in the Stats tab.
+ * Clicking the progress bar toggles every skill between a percentage and an "experience / needed" display.
+ */
+public class SkillProgressPanel extends JPanel {
+    private final JLabel levelLabel;
+    private final JProgressBar progressBar;
+    private final String skillName;
+
+    /**
+     * Constructs a SkillProgressPanel.
+     *
+     * @param skillName the display name of the skill
+     * @param color     the fill color of the progress bar
+     * @param gameFrame the main game frame, which holds the percentage display setting
+     */
+    public SkillProgressPanel(String skillName, Color color, GameFrame gameFrame) {
+        super(new BorderLayout());
+        this.skillName = skillName;
+
+        levelLabel = new JLabel(skillName + " Level: 1", SwingConstants.CENTER);
+        levelLabel.setFont(new Font("Serif", Font.BOLD, 18));
+
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setForeground(color);
+        progressBar.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(Color.BLACK, 1),
+                BorderFactory.createLineBorder(Color.DARK_GRAY, 1)
+        ));
+        progressBar.setFont(new Font("Serif", Font.BOLD, 16));
+
+        // Custom ProgressBarUI to change the text color
+        progressBar.setUI(new javax.swing.plaf.basic.BasicProgressBarUI() {
+            @Override
+            protected void paintString(Graphics g, int x, int y, int width, int height, int amountFull, Insets b) {
+                Graphics2D g2 = (Graphics2D) g;
+                String progressString = progressBar.getString();
+                g2.setFont(progressBar.getFont());
+                g2.setColor(Color.BLACK); // Set text color to black
+                int stringWidth = g2.getFontMetrics().stringWidth(progressString);
+                int stringHeight = g2.getFontMetrics().getHeight();
+                int stringX = x + (width - stringWidth) / 2;
+                int stringY = y + ((height + stringHeight) / 2) - g2.getFontMetrics().getDescent();
+                g2.drawString(progressString, stringX, stringY);
+            }
+        });
+
+        // Add a MouseListener to toggle the display between ratio and percentage
+        progressBar.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent evt) {
+                if (SwingUtilities.isLeftMouseButton(evt)) {
+                    gameFrame.setBoolShowPercentage(!gameFrame.getBoolShowPercentage());
+                    gameFrame.getSkillRegistry().refreshAll();
+                }
+            }
+        });
+
+        add(levelLabel, BorderLayout.NORTH);
+        add(progressBar, BorderLayout.CENTER);
+    }
+
+    /**
+     * Updates the label and progress bar.
+     *
+     * @param level          the current level
+     * @param experience     the current experience points
+     * @param maxExperience  the experience points needed for the next level
+     * @param showPercentage true to show a percentage, false to show "experience / needed"
+     */
+    public void update(int level, long experience, long maxExperience, boolean showPercentage) {
+        levelLabel.setText(skillName + " Level: " + level);
+        progressBar.setMaximum((int) maxExperience);
+        progressBar.setValue((int) experience);
+        String displayText = showPercentage ? String.format("%.2f%%", (double) experience / maxExperience * 100) :
+                experience + " / " + maxExperience;
+        progressBar.setString(displayText);
+    }
+}
@@ -0,0 +1,101 @@
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SkillRegistry keeps track of the player's skills and shows them in the Stats tab.
+ * Experience gains only mark a skill as changed; the registry then flushes all changed skills
+ * to their progress bars in a single pass at most once per frame, so bursts of gains cost one
+ * UI update instead of one per gain.
+ */
+public class SkillRegistry {
+    private static final int FRAME_MILLIS = 16;
+
+    private final GameFrame gameFrame;
+    private final Map<String, Skill> skills = new LinkedHashMap<>();
+    private final Map<Skill, Color> colors = new HashMap<>();
+    private final Map<Skill, SkillProgressPanel> panels = new HashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /**
+     * Constructs a SkillRegistry.
+     *
+     * @param gameFrame the main game frame
+     */
+    public SkillRegistry(GameFrame gameFrame) {
+        this.gameFrame = gameFrame;
+    }
+
+    /**
+     * Registers a skill. Registered skills get a progress bar in the Stats tab.
+     *
+     * @param skill the skill to register
+     * @param color the fill color of the skill's progress bar
+     */
+    public void register(Skill skill, Color color) {
+        skills.put(skill.getName(), skill);
+        colors.put(skill, color);
+        skill.setChangeListener(this::scheduleFlush);
+    }
+
+    public Skill getSkill(String name) {
+        return skills.get(name);
+    }
+
+    public List<Skill> getSkills() {
+        return new ArrayList<>(skills.values());
+    }
+
+    /**
+     * Creates the progress panel of every registered skill and adds it to the specified container.
+     *
+     * @param container the container to add the panels to
+     */
+    public void createProgressPanels(Container container) {
+        for (Skill skill : skills.values()) {
+            SkillProgressPanel panel = new SkillProgressPanel(skill.getName(), colors.get(skill), gameFrame);
+            panels.put(skill, panel);
+            container.add(panel);
+        }
+        refreshAll();
+    }
+
+    /**
+     * Redraws every skill's progress panel, for example after the percentage display is toggled.
+     */
+    public void refreshAll() {
+        for (Skill skill : skills.values()) {
+            updatePanel(skill);
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            gameFrame.getScheduler().schedule(FRAME_MILLIS, this::flush);
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        for (Skill skill : skills.values()) {
+            if (skill.takeChanged()) {
+                updatePanel(skill);
+            }
+            int newLevel = skill.takeLevelUp();
+            if (newLevel > 0) {
+                gameFrame.showLevelUpMessage(newLevel);
+            }
+        }
+    }
+
+    private void updatePanel(Skill skill) {
+        SkillProgressPanel panel = panels.get(skill);
+        if (panel != null) {
+            panel.update(skill.getLevel(), skill.getExperience(), skill.getExperienceForNextLevel(), gameFrame.getBoolShowPercentage());
+        }
+    }
+}
@@ -14,13 +14,12 @@ public class TabbedPanelInitializer {
     }
 
     /**
-     * Initializes the tabbed panel with the specified layered pane, scenes, and foraging manager.
+     * Initializes the tabbed panel with the specified layered pane and scenes.
      *
-     * @param layeredPane     the layered pane to add the tabbed panel to
-     * @param scenes          the scenes of the game
-     * @param foragingManager the foraging manager
+     * @param layeredPane the layered pane to add the tabbed panel to
+     * @param scenes      the scenes of the game
      */
-    public void initTabbedPanel(JLayeredPane layeredPane, Map<String, Scene> scenes, ForagingManager foragingManager) {
+    public void initTabbedPanel(JLayeredPane layeredPane, Map<String, Scene> scenes) {
         JTabbedPane tabbedPane = new JTabbedPane();
         JPanel inventoryPanel = new JPanel(new BorderLayout());
         inventoryPanel.setBackground(Color.LIGHT_GRAY);
@@ -28,7 +27,7 @@ public class TabbedPanelInitializer {
         tabbedPane.addTab("Inventory", inventoryPanel);
         JPanel statsPanel = new JPanel(new BorderLayout());
         statsPanel.setBackground(Color.LIGHT_GRAY);
-        initStatsPanel(statsPanel, foragingManager);
+        initStatsPanel(statsPanel);
         tabbedPane.addTab("Stats", statsPanel);
 
         CardLayout collectionsCardLayout = new CardLayout();
@@ -51,78 +50,15 @@ public class TabbedPanelInitializer {
         gameFrame.setCollectionsScrollPane(collectionsScrollPane);
     }
 
-    private void initStatsPanel(JPanel statsPanel, ForagingManager foragingManager) {
-        JPanel foragingPanel = new JPanel(new BorderLayout());
-        JLabel foragingLevelLabel = new JLabel("Foraging Level: " + foragingManager.getForagingLevel(), SwingConstants.CENTER);
-        foragingLevelLabel.setFont(new Font("Serif", Font.BOLD, 18));
-
-        JProgressBar foragingProgressBar = new JProgressBar(0, (int) foragingManager.getForagingLevel() * 100);
-        foragingProgressBar.setValue((int) foragingManager.getForagingExperience());
-        foragingProgressBar.setStringPainted(true);
-        foragingProgressBar.setForeground(Color.YELLOW);
-
-        // Customize the progress bar's appearance
+    private void initStatsPanel(JPanel statsPanel) {
+        // Customize the progress bars' appearance
         UIManager.put("ProgressBar.selectionForeground", Color.BLACK);
         UIManager.put("ProgressBar.selectionBackground", Color.BLACK);
-        foragingProgressBar.setBorder(BorderFactory.createCompoundBorder(
-                BorderFactory.createLineBorder(Color.BLACK, 1),
-                BorderFactory.createLineBorder(Color.DARK_GRAY, 1)
-        ));
-
-        // Customizing the font and color of the progress bar string
-        foragingProgressBar.setFont(new Font("Serif", Font.BOLD, 16));
-
-        // Custom ProgressBarUI to change the text color
-        foragingProgressBar.setUI(new javax.swing.plaf.basic.BasicProgressBarUI() {
-            @Override
-            protected void paintString(Graphics g, int x, int y, int width, int height, int amountFull, Insets b) {
-                Graphics2D g2 = (Graphics2D) g;
-                String progressString = foragingProgressBar.getString();
-                g2.setFont(foragingProgressBar.getFont());
-                g2.setColor(Color.BLACK); // Set text color to black
-                int stringWidth = g2.getFontMetrics().stringWidth(progressString);
-                int stringHeight = g2.getFontMetrics().getHeight();
-                int stringX = x + (width - stringWidth) / 2;
-                int stringY = y + ((height + stringHeight) / 2) - g2.getFontMetrics().getDescent();
-                g2.drawString(progressString, stringX, stringY);
-            }
-        });
-
-        // Add a MouseListener to toggle the display between ratio and percentage
-        foragingProgressBar.addMouseListener(new java.awt.event.MouseAdapter() {
-            @Override
-            public void mouseClicked(java.awt.event.MouseEvent evt) {
-                if (SwingUtilities.isLeftMouseButton(evt)) {
-                    gameFrame.showPercentage = !gameFrame.showPercentage; // Toggle the state
-                    gameFrame.updateForagingProgressBar(foragingManager.getForagingExperience(), foragingProgressBar.getMaximum());
-                }
-            }
-        });
-
-        // Initial update to set the string
-        gameFrame.updateForagingProgressBar(foragingManager.getForagingExperience(), foragingProgressBar.getMaximum());
-
-        foragingPanel.add(foragingLevelLabel, BorderLayout.NORTH);
-        foragingPanel.add(foragingProgressBar, BorderLayout.CENTER);
-        statsPanel.add(foragingPanel, BorderLayout.NORTH);
-
-        JLabel farmingLevelLabel = new JLabel("Farming Level: 1");
-        farmingLevelLabel.setFont(new Font("Serif", Font.BOLD, 18));
-
-        JProgressBar farmingProgressBar = new JProgressBar(0, 100);
-        farmingProgressBar.setValue(0);
-        farmingProgressBar.setStringPainted(true);
-        farmingProgressBar.setForeground(Color.GREEN);
-
-        JPanel farmingPanel = new JPanel(new BorderLayout());
-        farmingPanel.add(farmingLevelLabel, BorderLayout.NORTH);
-        farmingPanel.add(farmingProgressBar, BorderLayout.CENTER);
-        statsPanel.add(farmingPanel, BorderLayout.SOUTH);
 
-        gameFrame.setForagingLevelLabel(foragingLevelLabel);
-        gameFrame.setForagingProgressBar(foragingProgressBar);
-        gameFrame.setFarmingLevelLabel(farmingLevelLabel);
-        gameFrame.setFarmingProgressBar(farmingProgressBar);
+        JPanel skillsPanel = new JPanel();
+        skillsPanel.setLayout(new BoxLayout(skillsPanel, BoxLayout.Y_AXIS));
+        gameFrame.getSkillRegistry().createProgressPanels(skillsPanel);
+        statsPanel.add(skillsPanel, BorderLayout.NORTH);
     }
 
     private void initCollectionsPanels(Map<String, Scene> scenes, JPanel collectionsCardPanel, Map<String, JPanel> collectionsPanels) {
@@ -143,7 +79,7 @@ public class TabbedPanelInitializer {
         gbc.gridx = 0;
         gbc.gridy = 0;
 
-        for (Item item : scene.getLootTable()) {
+        for (ItemDef item : scene.getLootTable()) {
             JPanel itemPanel = gameFrame.createItemShadowPanel(item);
             panel.add(itemPanel, gbc);
             gbc.gridx++;
@@ -1,15 +1,5 @@
 public class ToAdd {
     /**
-     * 1) When you plant a seed, and then either move to a different Scene or press one of the arrow buttons on screen,
-     * the seeds stop growing until you press one of those buttons again, and all subsequent growth is halted until you
-     * press one of those buttons. If you just plant and leave everything alone, it grows as intended. So I just want to change
-     * the code such that when the player presses any button, that won't affect the growing of the seed in the background, if that makes sense.
-     *
-     * 2) In the Bank scene, disable the Farm button while the Bank window is open.
-     *
-     * 3) Move the Farming progress bar in the Stats menu to be right under the Foraging progress bar, not at the bottom.
-     * Also add functionality like the other progress bar. Maybe make a progress bar class that handles all of this
-     * in the future so that when I add new skills, it'll be easy to add an associated progress bar with all the same
-     * functionality as the others?
+     * 1) In the Bank scene, disable the Farm button while the Bank window is open.
      **/
 }
\ No newline at end of file